@@ -14,11 +14,12 @@ import java.util.Collections;
 public class AdminDashboard extends JFrame {
     private final SystemManager systemManager; // Reference to SystemManager
     private JTable ordersTable;  // Added class field
-    private DefaultTableModel ordersTableModel;  // Added class field
+    private OrderTableModel ordersTableModel;  // Added class field
     private JPanel revenueSummaryPanel; // Revenue summary panel
     private JLabel generatedLabel; // Generated revenue label
     private JLabel possibleLabel; // Possible revenue label
     private JTextArea staffInfoArea; // Store reference for sidebar updates
+    private final OrderChangeListener orderChangeListener = this::onOrderChanged;
 
     public AdminDashboard(SystemManager systemManager) {
         this.systemManager = systemManager;
@@ -38,6 +39,15 @@ public class AdminDashboard extends JFrame {
         setContentPane(mainPanel);
 
         setupComponents(mainPanel);
+
+        // Update only the affected rows when orders change instead of polling Order.txt
+        systemManager.addOrderChangeListener(orderChangeListener);
+    }
+
+    @Override
+    public void dispose() {
+        systemManager.removeOrderChangeListener(orderChangeListener);
+        super.dispose();
     }
 
     private void setupComponents(JPanel mainPanel) {
@@ -177,14 +187,6 @@ public class AdminDashboard extends JFrame {
         // Only add the sidebar ONCE at BorderLayout.EAST
         mainPanel.add(sidebarPanel, BorderLayout.EAST);
 
-        // Refresh staff info and dashboard periodically (every 5 seconds)
-        Timer timer = new Timer(5000, e -> {
-            updateStaffInfo(staffInfoArea);
-            refreshOrdersTable(ordersTableModel);
-            refreshRevenueSummary();
-        });
-        timer.start();
-
         // Button panel at bottom
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 10));
         buttonPanel.setOpaque(true);
@@ -285,8 +287,8 @@ public class AdminDashboard extends JFrame {
             };
 
             // Get pending users
-            java.util.List<User> pendingUsers = systemManager.getUsers().stream()
-                    .filter(u -> !u.isActive() && "customer".equals(u.getRole()))
+            java.util.List<User> pendingUsers = systemManager.getUsersByRole("customer").stream()
+                    .filter(u -> !u.isActive())
                     .collect(java.util.stream.Collectors.toList());
 
             // Add pending users to table
@@ -356,82 +358,93 @@ public class AdminDashboard extends JFrame {
                 TitledBorder.LEFT, TitledBorder.TOP, new Font("Arial", Font.BOLD, 14)
         ));
 
-        // Create table model with columns
-        String[] columns = {
-                "Order ID", "Customer Name", "Status", "Date", "Total Amount",
-                "Type", "Pages", "Copies", "Actions"
-        };
-        ordersTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 8; // Only action column is editable
-            }
+        // Create table model with columns; cells are read straight from the orders
+        OrderTableModel.Column[] columns = {
+                OrderTableModel.ORDER_ID, OrderTableModel.CUSTOMER_NAME, OrderTableModel.STATUS,
+                OrderTableModel.DATE, OrderTableModel.totalAmount("Total Amount"), OrderTableModel.TYPE,
+                OrderTableModel.PAGES, OrderTableModel.COPIES,
+                // Show Beep if order is pending or paid
+                new OrderTableModel.Column("Actions", String.class, o ->
+                        "Pending".equalsIgnoreCase(o.getStatus()) || "Paid".equalsIgnoreCase(o.getStatus()) ? "Beep" : "")
         };
+        ordersTableModel = new OrderTableModel(columns, 8, null); // Only action column is editable
 
         ordersTable = new JTable(ordersTableModel);
         ordersTable.setFillsViewportHeight(true);
+        TableRowSorter<OrderTableModel> sorter = ordersTableModel.createRowSorter();
+        ordersTable.setRowSorter(sorter);
 
         // Custom renderer and editor for the action buttons
         ordersTable.getColumnModel().getColumn(8).setCellRenderer(new ActionButtonRenderer());
         ordersTable.getColumnModel().getColumn(8).setCellEditor(new DualActionButtonEditor(ordersTable));
 
         // Load orders data
-        refreshOrdersTable(ordersTableModel);
+        populateOrdersTable();
 
         // Add refresh button
         JButton refreshButton = new JButton("Refresh Orders");
         refreshButton.setBackground(new Color(0, 120, 212));
         refreshButton.setForeground(Color.BLACK); // Set font color to black
-        refreshButton.addActionListener(e -> refreshOrdersTable(ordersTableModel));
+        refreshButton.addActionListener(e -> systemManager.reloadOrdersFromFile()); // fires RELOADED
+
+        // Status filter
+        JComboBox<String> statusFilter = new JComboBox<>(new String[]{
+                "All", "Pending", "Paid", "Accepted", "On Process", "Completed", "Declined"
+        });
+        statusFilter.addActionListener(e ->
+                sorter.setRowFilter(OrderTableModel.statusFilter((String) statusFilter.getSelectedItem())));
+
+        JPanel southPanel = new JPanel(new BorderLayout(10, 0));
+        southPanel.setOpaque(false);
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        filterPanel.setOpaque(false);
+        filterPanel.add(new JLabel("Status:"));
+        filterPanel.add(statusFilter);
+        southPanel.add(filterPanel, BorderLayout.WEST);
+        southPanel.add(refreshButton, BorderLayout.CENTER);
 
         JScrollPane scrollPane = new JScrollPane(ordersTable);
         panel.add(scrollPane, BorderLayout.CENTER);
-        panel.add(refreshButton, BorderLayout.SOUTH);
+        panel.add(southPanel, BorderLayout.SOUTH);
 
         return panel;
     }
 
-    private void refreshOrdersTable(DefaultTableModel model) {
-        model.setRowCount(0);
-        // Reload orders from file to ensure latest status
-        systemManager.reloadOrdersFromFile();
-        for (Order order : systemManager.getOrders()) {
-            // Show Beep if order is pending or paid
-            boolean showBeep = "Pending".equalsIgnoreCase(order.getStatus()) || "Paid".equalsIgnoreCase(order.getStatus());
-            String statusToShow = order.getStatus();
-            model.addRow(new Object[]{
-                    order.getId(),
-                    order.getCustomerName(),
-                    statusToShow,
-                    order.getDate(),
-                    order.getFormattedTotalAmount(),
-                    order.isColorPrinting() ? "Color" : "B&W",
-                    order.getPageCount(),
-                    order.getCopies(),
-                    showBeep ? "Beep" : "" // Show Beep if order is pending or paid
-            });
+    // Rebuild every row from the in-memory orders (initial load and after a full reload)
+    private void populateOrdersTable() {
+        ordersTableModel.setOrders(systemManager.getOrders());
+    }
+
+    private void onOrderChanged(OrderChangeEvent event) {
+        switch (event.getType()) {
+            case ADDED:
+            case UPDATED:
+                ordersTableModel.upsert(event.getOrder());
+                break;
+            case REMOVED:
+                ordersTableModel.remove(event.getOrder().getId());
+                break;
+            case RELOADED:
+                populateOrdersTable();
+                break;
         }
+        updateStaffInfo(staffInfoArea);
+        refreshRevenueSummary();
     }
 
     private void updateStaffInfo(JTextArea staffInfoArea) {
         StringBuilder infoBuilder = new StringBuilder();
-        List<User> staffList = systemManager.getUsers().stream()
-                .filter(user -> "staff".equals(user.getRole()))
-                .toList();
+        List<User> staffList = systemManager.getUsersByRole("staff");
         for (User staff : staffList) {
             String status = staff.isActive() ? "Available" : "Unavailable";
             infoBuilder.append(staff.getName())
                     .append(" (ID: ").append(staff.getId()).append(") - ").append(status).append("\n");
-            List<Order> assignedOrders = systemManager.getOrders().stream()
-                    .filter(order -> order.getAssignedStaffId() == staff.getId())
-                    .toList();
+            List<Order> assignedOrders = systemManager.getOrdersByStaffId(staff.getId());
             if (assignedOrders.isEmpty()) {
                 infoBuilder.append("  No assigned orders.\n");
             } else {
                 for (Order order : assignedOrders) {
-                    String orderIdStr = String.valueOf(order.getId());
-                    String shortOrderId = orderIdStr.length() > 6 ? orderIdStr.substring(orderIdStr.length() - 6) : orderIdStr;
-                    infoBuilder.append("  - Order ID: ").append(shortOrderId)
+                    infoBuilder.append("  - Order ID: ").append(order.getId())
                             .append(", Status: ").append(order.getStatus()).append("\n");
                 }
             }
@@ -506,7 +519,8 @@ public class AdminDashboard extends JFrame {
                 String action = (String) table.getValueAt(row, 8);
                 if (action != null && !action.isEmpty()) {
                     String orderId = (String) table.getValueAt(row, 0);
-                    if (!systemManager.getOrders().get(row).isReviewed()) {
+                    Order order = systemManager.getOrderById(orderId);
+                    if (order != null && !order.isReviewed()) {
                         showOrderReviewDialog(orderId, row);
                     }
                 }
@@ -545,7 +559,7 @@ public class AdminDashboard extends JFrame {
         seeFilesButton.setFont(new Font("Arial", Font.BOLD, 12));
 
         seeFilesButton.addActionListener(e -> {
-            Order order = systemManager.getOrders().stream().filter(o -> o.getId().equals(orderId)).findFirst().orElse(null);
+            Order order = systemManager.getOrderById(orderId);
             if (order != null) {
                 showOrderFilesDialog(order);
             }
@@ -553,7 +567,6 @@ public class AdminDashboard extends JFrame {
 
         acceptButton.addActionListener(e -> {
             processOrderReview(orderId, true, reasonArea.getText().trim());
-            refreshOrdersTable(ordersTableModel);
             ordersTable.clearSelection();
             ordersTable.revalidate();
             ordersTable.repaint();
@@ -562,7 +575,6 @@ public class AdminDashboard extends JFrame {
 
         rejectButton.addActionListener(e -> {
             processOrderReview(orderId, false, reasonArea.getText().trim());
-            refreshOrdersTable(ordersTableModel);
             ordersTable.clearSelection();
             ordersTable.revalidate();
             ordersTable.repaint();
@@ -780,14 +792,18 @@ public class AdminDashboard extends JFrame {
                     // Try to open DOCX with system default
                     java.awt.Desktop.getDesktop().open(file);
                 } else if (resolvedPath.toLowerCase().endsWith(".jpeg") || resolvedPath.toLowerCase().endsWith(".jpg") || resolvedPath.toLowerCase().endsWith(".png")) {
-                    // Preview image in dialog
-                    ImageIcon icon = new ImageIcon(resolvedPath);
-                    Image img = icon.getImage();
-                    Image scaled = img.getScaledInstance(600, 800, Image.SCALE_SMOOTH);
-                    icon = new ImageIcon(scaled);
-                    JLabel label = new JLabel(icon);
+                    // Preview image in dialog; the thumbnail is decoded in the background and shown when ready
+                    JLabel label = new JLabel("Loading preview...", SwingConstants.CENTER);
                     JScrollPane scroll = new JScrollPane(label);
                     scroll.setPreferredSize(new Dimension(600, 800));
+                    systemManager.getThumbnailService().load(file, 600, 800, preview -> showPreview(label, preview))
+                        .whenComplete((image, error) -> SwingUtilities.invokeLater(() -> {
+                            if (error != null) {
+                                label.setText("Could not load preview: " + file.getName());
+                            } else {
+                                showPreview(label, image);
+                            }
+                        }));
                     JOptionPane.showMessageDialog(this, scroll, file.getName(), JOptionPane.PLAIN_MESSAGE);
                 } else {
                     java.awt.Desktop.getDesktop().open(file);
@@ -800,20 +816,16 @@ public class AdminDashboard extends JFrame {
         }
     }
 
+    private void showPreview(JLabel label, Image image) {
+        label.setText(null);
+        label.setIcon(new ImageIcon(image));
+        label.revalidate();
+    }
+
     // Minimal processOrderReview for order review actions
     private void processOrderReview(String orderId, boolean accepted, String reason) {
-        if (accepted) {
-            systemManager.setOrderStatus(orderId, "Accepted");
-            // Use new round-robin assignment method
-            Order assignedOrder = systemManager.getOrders().stream()
-                    .filter(o -> o.getId().equals(orderId))
-                    .findFirst().orElse(null);
-            if (assignedOrder != null) {
-                systemManager.assignOrderToNextStaff(assignedOrder);
-            }
-        } else {
-            systemManager.setOrderStatus(orderId, "Declined");
-        }
+        // Sets the status, assigns staff on accept and notifies the customer
+        systemManager.reviewOrder(orderId, accepted, reason);
         JOptionPane.showMessageDialog(this, "Order " + orderId + " reviewed. Accepted: " + accepted + ", Reason: " + reason);
     }
 
@@ -889,6 +901,7 @@ public class AdminDashboard extends JFrame {
 
                     // Create staff account
                     systemManager.createStaff(name, email, phone, username, password);
+                    updateStaffInfo(staffInfoArea); // new staff is not an order change, so refresh the sidebar here
                     JOptionPane.showMessageDialog(dialog,
                             "Staff account created successfully!",
                             "Success",
@@ -951,21 +964,119 @@ public class AdminDashboard extends JFrame {
     }
 
     private void viewAuditTrail() {
-        try {
-            java.util.List<String> logs = java.nio.file.Files.readAllLines(
-                    java.nio.file.Paths.get("src/main/resources/com/example/printshopapp/Logbook.txt"),
-                    java.nio.charset.StandardCharsets.UTF_8
-            );
-
-            JTextArea textArea = new JTextArea(String.join("\n", logs));
-            textArea.setEditable(false);
-            JScrollPane scrollPane = new JScrollPane(textArea);
-            scrollPane.setPreferredSize(new Dimension(800, 600));
-
-            JOptionPane.showMessageDialog(this, scrollPane, "Audit Trail", JOptionPane.INFORMATION_MESSAGE);
-        } catch (java.io.IOException ex) {
-            JOptionPane.showMessageDialog(this, "Failed to load audit trail: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        // Index the log off the EDT; only lines appended since the last open are scanned
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<AuditTrailReader, Void>() {
+            @Override
+            protected AuditTrailReader doInBackground() throws Exception {
+                return systemManager.openAuditTrail();
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    showAuditTrailDialog(get());
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(AdminDashboard.this, "Failed to load audit trail: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    private void showAuditTrailDialog(AuditTrailReader reader) {
+        JDialog dialog = new JDialog(this, "Audit Trail", true);
+        dialog.setSize(900, 650);
+        dialog.setLocationRelativeTo(this);
+        dialog.setLayout(new BorderLayout(5, 5));
+
+        AuditTrailTableModel model = new AuditTrailTableModel(reader);
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(150);
+        table.getColumnModel().getColumn(1).setPreferredWidth(120);
+        table.getColumnModel().getColumn(2).setPreferredWidth(600);
+
+        // Filters: user and action are substrings, dates are yyyy-MM-dd (inclusive)
+        JTextField userField = new JTextField(10);
+        JTextField actionField = new JTextField(14);
+        JTextField fromField = new JTextField(8);
+        JTextField toField = new JTextField(8);
+        JButton applyButton = new JButton("Apply");
+        JButton clearButton = new JButton("Clear");
+        JLabel countLabel = new JLabel(reader.getLineCount() + " entries");
+
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 5));
+        filterPanel.add(new JLabel("User:"));
+        filterPanel.add(userField);
+        filterPanel.add(new JLabel("Action:"));
+        filterPanel.add(actionField);
+        filterPanel.add(new JLabel("From (yyyy-MM-dd):"));
+        filterPanel.add(fromField);
+        filterPanel.add(new JLabel("To:"));
+        filterPanel.add(toField);
+        filterPanel.add(applyButton);
+        filterPanel.add(clearButton);
+
+        applyButton.addActionListener(e -> {
+            Integer from, to;
+            try {
+                from = fromField.getText().isBlank() ? null
+                        : AuditTrailReader.toIndexTime(java.time.LocalDate.parse(fromField.getText().trim()).atStartOfDay());
+                to = toField.getText().isBlank() ? null
+                        : AuditTrailReader.toIndexTime(java.time.LocalDate.parse(toField.getText().trim()).atTime(23, 59, 59));
+            } catch (java.time.format.DateTimeParseException ex) {
+                JOptionPane.showMessageDialog(dialog, "Dates must be in yyyy-MM-dd format.", "Invalid Date", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            String user = userField.getText();
+            String action = actionField.getText();
+            applyButton.setEnabled(false);
+            new SwingWorker<int[], Void>() {
+                @Override
+                protected int[] doInBackground() {
+                    return reader.filter(user, action, from, to);
+                }
+
+                @Override
+                protected void done() {
+                    applyButton.setEnabled(true);
+                    try {
+                        int[] rows = get();
+                        model.setRows(rows);
+                        countLabel.setText(rows.length + " of " + reader.getLineCount() + " entries");
+                    } catch (Exception ex) {
+                        countLabel.setText("Filter failed: " + ex.getMessage());
+                    }
+                }
+            }.execute();
+        });
+        clearButton.addActionListener(e -> {
+            userField.setText("");
+            actionField.setText("");
+            fromField.setText("");
+            toField.setText("");
+            model.setRows(null);
+            countLabel.setText(reader.getLineCount() + " entries");
+        });
+
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dialog.dispose());
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 5, 10));
+        bottomPanel.add(countLabel, BorderLayout.WEST);
+        bottomPanel.add(closeButton, BorderLayout.EAST);
+
+        dialog.add(filterPanel, BorderLayout.NORTH);
+        dialog.add(new JScrollPane(table), BorderLayout.CENTER);
+        dialog.add(bottomPanel, BorderLayout.SOUTH);
+
+        // Start at the newest entries, like the end of the log file
+        if (model.getRowCount() > 0) {
+            table.scrollRectToVisible(table.getCellRect(model.getRowCount() - 1, 0, true));
         }
+        dialog.setVisible(true);
     }
 
     private void openEditPricingDialog() {
@@ -0,0 +1,178 @@
+package com.example.printshopapp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous writer for Logbook.txt.
+ * Callers only format the line and put it on a bounded queue; a single daemon thread drains the
+ * queue in batches into one open writer and flushes when a batch is full or the flush interval
+ * has passed. A shutdown hook drains whatever is left on exit.
+ * If the queue is full the entry is dropped rather than blocking the caller, and a marker line
+ * with the number of dropped entries is written once the writer catches up.
+ */
+public class AuditLogger {
+    private static final Logger LOGGER = Logger.getLogger(AuditLogger.class.getName());
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final Object STOP = new Object(); // queued by close() to end the writer loop
+
+    private final Path path;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY); // log lines and flush requests
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private BufferedWriter writer; // only touched by the writer thread (and close() after it stopped)
+
+    public AuditLogger(String filePath, int batchSize, long flushIntervalMillis) {
+        this.path = Paths.get(filePath);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        writerThread = new Thread(this::runWriter, "audit-logger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "audit-logger-shutdown"));
+    }
+
+    /**
+     * Queues one entry in the Logbook.txt format "timestamp - user: action". Never blocks.
+     */
+    public void log(String userName, String action) {
+        String entry = LocalDateTime.now().format(TIMESTAMP_FORMAT) + " - " + userName + ": " + action;
+        if (!running || !queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Blocks until every entry queued before this call is written and flushed to disk,
+     * e.g. before the audit trail is read back. Gives up after the timeout.
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        if (!running) return true;
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            if (!queue.offer(done, timeout, unit)) return false;
+            return done.await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Stops the writer thread after it has drained the queue; called from the shutdown hook.
+    // The thread is not interrupted: that would close the logbook channel mid-write and lose the tail.
+    public void close() {
+        if (!running) return;
+        running = false;
+        queue.offer(STOP); // if the queue is full the writer still stops at its next poll timeout
+        try {
+            writerThread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.currentTimeMillis();
+        boolean unflushed = false;
+        while (true) {
+            try {
+                Object first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    boolean stop = batch.remove(STOP);
+                    unflushed |= write(batch);
+                    batch.clear();
+                    if (stop) break;
+                } else if (!running) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                break; // drain below
+            }
+            long now = System.currentTimeMillis();
+            if (unflushed && (now - lastFlush >= flushIntervalMillis || queue.isEmpty())) {
+                flushWriter();
+                unflushed = false;
+                lastFlush = now;
+            }
+        }
+        // Drain everything still queued, then release the file
+        queue.drainTo(batch);
+        batch.remove(STOP);
+        write(batch);
+        flushWriter();
+        try {
+            if (writer != null) writer.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close logbook: " + e.getMessage());
+        }
+        writer = null;
+    }
+
+    // Writes a batch of lines and answers flush requests in it; returns true if lines were written
+    private boolean write(List<Object> batch) {
+        boolean wrote = false;
+        try {
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                openWriter().write(LocalDateTime.now().format(TIMESTAMP_FORMAT) + " - System: "
+                        + lost + " audit entries dropped (queue full)");
+                writer.newLine();
+                wrote = true;
+            }
+            for (Object item : batch) {
+                if (item instanceof CountDownLatch) {
+                    flushWriter();
+                    ((CountDownLatch) item).countDown();
+                } else {
+                    openWriter().write((String) item);
+                    writer.newLine();
+                    wrote = true;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write to logbook: " + e.getMessage());
+            // Release any waiting flush callers even though the write failed
+            for (Object item : batch) {
+                if (item instanceof CountDownLatch) ((CountDownLatch) item).countDown();
+            }
+        }
+        return wrote;
+    }
+
+    private BufferedWriter openWriter() throws IOException {
+        if (writer == null) {
+            Files.createDirectories(path.getParent());
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return writer;
+    }
+
+    private void flushWriter() {
+        if (writer == null) return;
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to flush logbook: " + e.getMessage());
+        }
+    }
+}
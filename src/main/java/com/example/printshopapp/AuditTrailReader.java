@@ -0,0 +1,335 @@
+package com.example.printshopapp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Line index over Logbook.txt ("yyyy-MM-dd HH:mm:ss - user: action" per line).
+ * The file is scanned once through memory-mapped windows; for each line only its byte offset,
+ * timestamp and user (as an ID into a small name dictionary) are kept. Line text is read on demand
+ * in pages, so opening a large log costs memory proportional to the line count, not the file size.
+ * refresh() indexes only what was appended since the last scan. filter() scans a copy of the index
+ * outside the lock, so the table's getLine() calls are not blocked while it reads action text.
+ */
+public class AuditTrailReader {
+    private static final Logger LOGGER = Logger.getLogger(AuditTrailReader.class.getName());
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+    private static final int PAGE_SIZE = 256;
+    private static final int MAX_CACHED_PAGES = 32;
+    private static final long EPOCH_BASE = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    public static final int NO_TIMESTAMP = Integer.MIN_VALUE;
+
+    private final Path path;
+    private long indexedLength = 0;     // bytes covered by the index (always ends after a newline)
+    private int lineCount = 0;
+    private long[] lineStarts = new long[1024];
+    private int[] timestamps = new int[1024]; // seconds since 2000-01-01, or NO_TIMESTAMP
+    private int[] userIds = new int[1024];
+    private final List<String> userNames = new ArrayList<>();
+    private final Map<String, Integer> userIdsByName = new HashMap<>();
+
+    // Recently used pages of decoded lines: page number -> {timestamp, user, action} per line
+    private final Map<Integer, String[][]> pageCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String[][]> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+
+    public AuditTrailReader(String filePath) {
+        this.path = Paths.get(filePath);
+    }
+
+    /**
+     * Brings the index up to date with the file. Appended lines are indexed incrementally;
+     * a file that shrank (truncated or replaced) is re-indexed from the start.
+     */
+    public synchronized void refresh() throws IOException {
+        if (!Files.exists(path)) {
+            reset();
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < indexedLength) {
+                reset();
+            }
+            // The last page may have been cached before more lines were appended to it
+            pageCache.remove(lineCount / PAGE_SIZE);
+            long position = indexedLength;
+            while (position < size) {
+                long length = Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = indexWindow(window, position);
+                if (consumed == 0) {
+                    if (length < MAP_WINDOW) {
+                        break; // last line has no newline yet; index it once it is complete
+                    }
+                    // A single line longer than the window: index it as unparseable and skip to its end
+                    long lineEnd = findNewline(channel, position + length, size);
+                    if (lineEnd < 0) {
+                        break; // still being written
+                    }
+                    addLine(position, NO_TIMESTAMP, internUser(""));
+                    position = lineEnd + 1;
+                    continue;
+                }
+                position += consumed;
+            }
+            indexedLength = position;
+        }
+    }
+
+    // Offset of the first newline at or after from, or -1 if there is none before size
+    private static long findNewline(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(64 * 1024);
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return position + i;
+            }
+            position += read;
+        }
+        return -1;
+    }
+
+    // Fresh arrays, so a filter() still scanning the old index never sees it overwritten
+    private void reset() {
+        indexedLength = 0;
+        lineCount = 0;
+        lineStarts = new long[1024];
+        timestamps = new int[1024];
+        userIds = new int[1024];
+        pageCache.clear();
+    }
+
+    // Indexes every complete line in the window; returns the number of bytes consumed
+    private int indexWindow(MappedByteBuffer window, long windowStart) {
+        int limit = window.limit();
+        int lineStart = 0;
+        for (int i = 0; i < limit; i++) {
+            if (window.get(i) != '\n') continue;
+            indexLine(window, windowStart, lineStart, i);
+            lineStart = i + 1;
+        }
+        return lineStart;
+    }
+
+    private void indexLine(ByteBuffer window, long windowStart, int start, int end) {
+        int timestamp = parseTimestamp(window, start, end);
+        int userId = internUser("");
+        // "yyyy-MM-dd HH:mm:ss - user: action"
+        int userStart = start + 22;
+        if (timestamp != NO_TIMESTAMP && userStart <= end) {
+            for (int i = userStart; i + 1 < end; i++) {
+                if (window.get(i) == ':' && window.get(i + 1) == ' ') {
+                    userId = internUser(decode(window, userStart, i));
+                    break;
+                }
+            }
+        }
+        addLine(windowStart + start, timestamp, userId);
+    }
+
+    private void addLine(long start, int timestamp, int userId) {
+        if (lineCount == lineStarts.length) {
+            int capacity = lineCount * 2;
+            lineStarts = Arrays.copyOf(lineStarts, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+        }
+        lineStarts[lineCount] = start;
+        timestamps[lineCount] = timestamp;
+        userIds[lineCount] = userId;
+        lineCount++;
+    }
+
+    // Parses "yyyy-MM-dd HH:mm:ss" at the start of the line without allocating
+    private static int parseTimestamp(ByteBuffer buf, int start, int end) {
+        if (end - start < 19) return NO_TIMESTAMP;
+        int year = digits(buf, start, 4), month = digits(buf, start + 5, 2), day = digits(buf, start + 8, 2);
+        int hour = digits(buf, start + 11, 2), minute = digits(buf, start + 14, 2), second = digits(buf, start + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || minute < 0 || second < 0
+                || buf.get(start + 4) != '-' || buf.get(start + 10) != ' ') {
+            return NO_TIMESTAMP;
+        }
+        long epochSecond = daysFromCivil(year, month, day) * 86400 + hour * 3600L + minute * 60L + second;
+        return (int) (epochSecond - EPOCH_BASE);
+    }
+
+    // Days since 1970-01-01 for a proleptic Gregorian date (same result as LocalDate.toEpochDay)
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static int digits(ByteBuffer buf, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static String decode(ByteBuffer buf, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = buf.get(start + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int internUser(String name) {
+        Integer id = userIdsByName.get(name);
+        if (id == null) {
+            id = userNames.size();
+            userNames.add(name);
+            userIdsByName.put(name, id);
+        }
+        return id;
+    }
+
+    public synchronized int getLineCount() {
+        return lineCount;
+    }
+
+    // Converts a date/time to the index's timestamp scale, for filters
+    public static int toIndexTime(LocalDateTime dateTime) {
+        return (int) (dateTime.toEpochSecond(ZoneOffset.UTC) - EPOCH_BASE);
+    }
+
+    /**
+     * Returns {timestamp, user, action} for the given line. Lines that do not follow the logbook format
+     * come back with the whole text in the action column. Reads the surrounding page from disk if needed.
+     */
+    public synchronized String[] getLine(int line) {
+        int page = line / PAGE_SIZE;
+        String[][] lines = pageCache.get(page);
+        if (lines == null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                lines = readPage(channel, lineStarts, timestamps, lineCount, indexedLength, page);
+            } catch (IOException e) {
+                lines = unreadablePage(page, lineCount, e);
+            }
+            pageCache.put(page, lines);
+        }
+        return lines[line - page * PAGE_SIZE];
+    }
+
+    // Static, so filter() can read pages from its copy of the index without holding the lock
+    private static String[][] readPage(FileChannel channel, long[] lineStarts, int[] timestamps,
+                                       int lineCount, long indexedLength, int page) throws IOException {
+        int first = page * PAGE_SIZE;
+        int last = Math.min(lineCount, first + PAGE_SIZE);
+        String[][] lines = new String[last - first][];
+        long start = lineStarts[first];
+        long end = last < lineCount ? lineStarts[last] : indexedLength;
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+            // keep reading until the page is complete
+        }
+        String text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        String[] rawLines = text.split("\r?\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = splitLine(i < rawLines.length ? rawLines[i] : "", timestamps[first + i] != NO_TIMESTAMP);
+        }
+        return lines;
+    }
+
+    private static String[][] unreadablePage(int page, int lineCount, IOException e) {
+        LOGGER.warning("Failed to read audit trail page: " + e.getMessage());
+        String[][] lines = new String[Math.min(lineCount, (page + 1) * PAGE_SIZE) - page * PAGE_SIZE][];
+        for (int i = 0; i < lines.length; i++) lines[i] = new String[]{"", "", ""};
+        return lines;
+    }
+
+    private static String[] splitLine(String line, boolean hasTimestamp) {
+        if (!hasTimestamp) return new String[]{"", "", line};
+        int userEnd = line.indexOf(": ", 22);
+        if (line.length() < 22 || userEnd < 0) return new String[]{line.substring(0, 19), "", line.substring(Math.min(line.length(), 22))};
+        return new String[]{line.substring(0, 19), line.substring(22, userEnd), line.substring(userEnd + 2)};
+    }
+
+    /**
+     * Returns the matching line numbers in file order.
+     * user and action are case-insensitive substrings (null or blank matches all); from/to are
+     * inclusive bounds from toIndexTime, or null. User and date checks use only the index;
+     * the action text is read only for lines that pass them, through the filter's own channel and
+     * without the lock or the shared page cache. Lines indexed after the scan starts are not included.
+     */
+    public int[] filter(String user, String action, Integer from, Integer to) {
+        // Lines below lineCount are never rewritten in these arrays, so the copied references stay valid
+        long[] starts;
+        int[] stamps, users;
+        int lines;
+        long length;
+        String[] names;
+        synchronized (this) {
+            starts = lineStarts;
+            stamps = timestamps;
+            users = userIds;
+            lines = lineCount;
+            length = indexedLength;
+            names = userNames.toArray(new String[0]);
+        }
+        boolean[] userMatches = null;
+        if (user != null && !user.isBlank()) {
+            String needle = user.trim().toLowerCase();
+            userMatches = new boolean[names.length];
+            for (int i = 0; i < names.length; i++) {
+                userMatches[i] = names[i].toLowerCase().contains(needle);
+            }
+        }
+        String actionNeedle = action == null || action.isBlank() ? null : action.trim().toLowerCase();
+        int[] result = new int[lines];
+        int count = 0;
+        FileChannel channel = null;
+        String[][] page = null;
+        int pageNumber = -1;
+        try {
+            for (int i = 0; i < lines; i++) {
+                if (userMatches != null && !userMatches[users[i]]) continue;
+                if ((from != null || to != null) && stamps[i] == NO_TIMESTAMP) continue;
+                if (from != null && stamps[i] < from) continue;
+                if (to != null && stamps[i] > to) continue;
+                if (actionNeedle != null) {
+                    if (i / PAGE_SIZE != pageNumber) {
+                        pageNumber = i / PAGE_SIZE;
+                        try {
+                            if (channel == null) channel = FileChannel.open(path, StandardOpenOption.READ);
+                            page = readPage(channel, starts, stamps, lines, length, pageNumber);
+                        } catch (IOException e) {
+                            page = unreadablePage(pageNumber, lines, e);
+                        }
+                    }
+                    if (!page[i - pageNumber * PAGE_SIZE][2].toLowerCase().contains(actionNeedle)) continue;
+                }
+                result[count++] = i;
+            }
+        } finally {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // Read-only channel; nothing to flush
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.printshopapp;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Virtualized audit trail table: rows are line numbers in an AuditTrailReader and cell text is
+ * fetched from the reader's page cache only when a row is painted.
+ */
+public class AuditTrailTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Date/Time", "User", "Action"};
+
+    private final AuditTrailReader reader;
+    private int[] rows; // matching line numbers, or null to show every line
+
+    public AuditTrailTableModel(AuditTrailReader reader) {
+        this.reader = reader;
+    }
+
+    // Shows only the given lines (from AuditTrailReader.filter); null shows the whole trail
+    public void setRows(int[] rows) {
+        this.rows = rows;
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows == null ? reader.getLineCount() : rows.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int line = rows == null ? row : rows[row];
+        return reader.getLine(line)[column];
+    }
+}
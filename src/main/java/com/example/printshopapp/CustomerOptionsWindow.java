@@ -4,8 +4,7 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableCellRenderer;
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.util.List;
 
 public class CustomerOptionsWindow extends JFrame {
     private final SystemManager systemManager;
@@ -14,6 +13,13 @@ public class CustomerOptionsWindow extends JFrame {
     private static final Color TEXT_COLOR = new Color(44, 62, 80);
     private static final int BUTTON_WIDTH = 180;
     private static final int BUTTON_HEIGHT = 100;
+    private static final int NOTIFICATION_PAGE_SIZE = 50;
+    private JButton notificationButton;
+    private int unreadCount = 0; // notifications received while this window is open and not yet viewed
+    private final NotificationListener notificationListener = notification -> {
+        unreadCount++;
+        updateNotificationBadge();
+    };
 
     public CustomerOptionsWindow(SystemManager systemManager) {
         this.systemManager = systemManager;
@@ -25,6 +31,22 @@ public class CustomerOptionsWindow extends JFrame {
 
         setupComponents();
         KaelLib.setBackgroundImage(this, "/com/example/printshopapp/images/background1.png");
+
+        User currentUser = systemManager.getCurrentUser();
+        if (currentUser != null) {
+            systemManager.addNotificationListener(currentUser.getId(), currentUser.getName(), notificationListener);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        systemManager.removeNotificationListener(notificationListener);
+        super.dispose();
+    }
+
+    private void updateNotificationBadge() {
+        String text = unreadCount > 0 ? "Notifications (" + unreadCount + " new)" : "Notifications";
+        notificationButton.setText("<html><center>" + text + "</center></html>");
     }
 
     private void setupComponents() {
@@ -62,7 +84,7 @@ public class CustomerOptionsWindow extends JFrame {
 
         // Create and add buttons
         JButton orderButton = createMenuButton("Place New Order", "Create a new printing order", "/com/example/printshopapp/images/order_icon.png");
-        JButton notificationButton = createMenuButton("Notifications", "View your order notifications", "/com/example/printshopapp/images/notification_icon.png");
+        notificationButton = createMenuButton("Notifications", "View your order notifications", "/com/example/printshopapp/images/notification_icon.png");
         JButton editDetailsButton = createMenuButton("Account Settings", "Modify your account information", "/com/example/printshopapp/images/account_icon.png");
 
         // Add action listeners
@@ -166,6 +188,9 @@ public class CustomerOptionsWindow extends JFrame {
             return;
         }
 
+        unreadCount = 0;
+        updateNotificationBadge();
+
         JDialog notificationDialog = new JDialog(this, "Your Notifications", true);
         notificationDialog.setSize(600, 400);
         notificationDialog.setLocationRelativeTo(this);
@@ -182,37 +207,22 @@ public class CustomerOptionsWindow extends JFrame {
             }
         };
 
-        // Load notifications
-        try (BufferedReader reader = new BufferedReader(new FileReader(SystemManager.ORDER_NOTIFICATION_FILE_PATH))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",", 3);
-                if (parts.length >= 3) {
-                    String customerIdStr = parts[0].trim();
-                    String customerName = parts[1].trim();
-                    String fullMessage = parts[2].trim();
-
-                    if (customerIdStr.equals(String.valueOf(currentUser.getId())) ||
-                        customerName.equals(currentUser.getName())) {
-
-                        // Try to extract date from the message (look for 'Date: ')
-                        String date = "";
-                        String message = fullMessage;
-                        int dateIdx = fullMessage.lastIndexOf("Date: ");
-                        if (dateIdx != -1) {
-                            date = fullMessage.substring(dateIdx + 6).trim();
-                            // Remove the date part from the message
-                            message = fullMessage.substring(0, dateIdx).replaceAll(",\\s*$", "").trim();
-                        }
-                        // Add button if message contains "Reason:"
-                        String action = message.contains("Reason:") ? "View Reason" : "";
-                        model.addRow(new Object[]{date, message, action});
-                    }
-                }
+        // Load the newest page of this customer's notifications from the index
+        NotificationStore store = systemManager.getNotificationStore();
+        int total = store.count(currentUser.getId(), currentUser.getName());
+        int[] loaded = {0};
+        JButton olderButton = new JButton("Load older");
+        Runnable loadPage = () -> {
+            List<NotificationStore.Notification> page =
+                    store.page(currentUser.getId(), currentUser.getName(), loaded[0], NOTIFICATION_PAGE_SIZE);
+            for (NotificationStore.Notification notification : page) {
+                addNotificationRow(model, notification.getMessage());
             }
-        } catch (Exception e) {
-            model.addRow(new Object[]{"", "Error loading notifications", ""});
-        }
+            loaded[0] += page.size();
+            olderButton.setEnabled(!page.isEmpty() && loaded[0] < total);
+        };
+        loadPage.run();
+        olderButton.addActionListener(e -> loadPage.run());
 
         JTable notificationTable = new JTable(model);
         notificationTable.setRowHeight(30);
@@ -234,12 +244,34 @@ public class CustomerOptionsWindow extends JFrame {
 
         JButton closeButton = new JButton("Close");
         closeButton.addActionListener(e -> notificationDialog.dispose());
-        mainPanel.add(closeButton, BorderLayout.SOUTH);
+        JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        bottomPanel.add(olderButton);
+        bottomPanel.add(closeButton);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
 
         notificationDialog.add(mainPanel);
         notificationDialog.setVisible(true);
     }
 
+    private void addNotificationRow(DefaultTableModel model, String fullMessage) {
+        // Try to extract date from the message (look for 'Date: ')
+        String date = "";
+        String message = fullMessage;
+        int dateIdx = fullMessage.lastIndexOf("Date: ");
+        if (dateIdx != -1) {
+            date = fullMessage.substring(dateIdx + 6).trim();
+            // Remove the date part from the message
+            message = fullMessage.substring(0, dateIdx).replaceAll(",\\s*$", "").trim();
+        } else if (fullMessage.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2} - .*")) {
+            // "timestamp - message" as written by SystemManager.addOrderNotification
+            date = fullMessage.substring(0, 19);
+            message = fullMessage.substring(22).trim();
+        }
+        // Add button if message contains "Reason:"
+        String action = message.contains("Reason:") ? "View Reason" : "";
+        model.addRow(new Object[]{date, message, action});
+    }
+
     // Custom button renderer
     private class ButtonRenderer extends JButton implements TableCellRenderer {
         public ButtonRenderer() {
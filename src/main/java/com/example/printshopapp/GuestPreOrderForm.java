@@ -6,7 +6,10 @@ import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 public class GuestPreOrderForm extends JFrame {
     private JTextField nameField;
@@ -37,9 +40,10 @@ public class GuestPreOrderForm extends JFrame {
     // --- Price panel refresh support ---
     private JPanel pricePanelWrapper; // holds the price panel for refresh
     private JPanel pricePanel; // the actual price panel
-    private javax.swing.Timer priceRefreshTimer;
+    private int shownPricingVersion;
 
     public void refreshPricePanel() {
+        shownPricingVersion = systemManager.getPricingVersion();
         pricePanelWrapper.removeAll();
         pricePanel = buildPricePanel();
         pricePanelWrapper.add(pricePanel);
@@ -230,9 +234,11 @@ public class GuestPreOrderForm extends JFrame {
         pricePanelWrapper.add(pricePanel);
         getContentPane().add(pricePanelWrapper, BorderLayout.EAST);
 
-        // --- Timer for auto-refresh ---
-        priceRefreshTimer = new javax.swing.Timer(5000, e -> refreshPricePanel());
-        priceRefreshTimer.start();
+        // --- Auto-refresh while visible; stops when the form is disposed ---
+        shownPricingVersion = systemManager.getPricingVersion();
+        RefreshScheduler.register(this, 5000, () -> {
+            if (systemManager.getPricingVersion() != shownPricingVersion) refreshPricePanel();
+        });
     }
 
     private void addPriceRow(JPanel panel, String label, String price) {
@@ -554,9 +560,27 @@ public class GuestPreOrderForm extends JFrame {
                 sb.append(f.getName()).append(", ");
             }
             JOptionPane.showMessageDialog(this, "Print Files selected: " + (sb.length() > 0 ? sb.substring(0, sb.length() - 2) : "None"));
+            countPrintFilePages();
         }
     }
 
+    // Counts the pages of the chosen files in the background and fills in the page count, which reprices the order
+    private void countPrintFilePages() {
+        File[] chosen = printFiles;
+        systemManager.getPageCounter().countPages(Arrays.asList(chosen)).thenAccept(result -> SwingUtilities.invokeLater(() -> {
+            if (chosen != printFiles) return; // files were chosen again while counting
+            SpinnerNumberModel model = (SpinnerNumberModel) pageCountSpinner.getModel();
+            if (result.getPages() > 0) {
+                int max = ((Number) model.getMaximum()).intValue();
+                pageCountSpinner.setValue(Math.min(result.getPages(), max));
+            }
+            if (result.getUncounted() > 0) {
+                JOptionPane.showMessageDialog(this, "Could not count the pages of " + result.getUncounted()
+                    + " file(s). Please check the number of pages.", "Page Count", JOptionPane.WARNING_MESSAGE);
+            }
+        }));
+    }
+
     private void handleSubmitOrder() {
         // Validate all requirements before proceeding
         if (!validateForm()) {
@@ -590,26 +614,49 @@ public class GuestPreOrderForm extends JFrame {
                 return;
             }
         }
+        // Copy the files into the upload store in the background; the order references the stored copies
+        List<File> uploads = new ArrayList<>();
+        uploads.add(orderReceiptFile);
+        uploads.add(gcashReceiptFile);
+        uploads.addAll(Arrays.asList(printFiles));
+        ProgressMonitor monitor = new ProgressMonitor(this, "Uploading files...", null, 0, 100);
+        setEnabled(false); // the fields are read again once the upload finishes
+        systemManager.getUploadService().ingestWithProgress(uploads, monitor)
+            .whenComplete((paths, error) -> SwingUtilities.invokeLater(() -> {
+                monitor.close();
+                setEnabled(true);
+                if (error instanceof CancellationException) {
+                    submitOrderButton.setEnabled(true);
+                    isSubmitting = false;
+                    return; // cancelled from the progress dialog
+                }
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    JOptionPane.showMessageDialog(this, "Failed to upload files: " + cause.getMessage(), "Upload Error", JOptionPane.ERROR_MESSAGE);
+                    submitOrderButton.setEnabled(true);
+                    isSubmitting = false;
+                    return;
+                }
+                submitOrder(paths.get(0), paths.get(1), paths.subList(2, paths.size()).toArray(new String[0]));
+            }));
+    }
+
+    private void submitOrder(String orderReceiptPath, String gcashReceiptPath, String[] printFilePaths) {
         try {
             // Write the order to Order.txt
-            String[] printFileNames = Arrays.stream(printFiles).map(File::getName).toArray(String[]::new);
             String orderLine = systemManager.generateOrderLine(
                     nameField.getText().trim(),
                     emailField.getText().trim(),
                     phoneField.getText().trim(),
-                    orderReceiptFile.getName(),
-                    gcashReceiptFile.getName(),
-                    printFileNames,
+                    orderReceiptPath,
+                    gcashReceiptPath,
+                    printFilePaths,
                     totalCost,
                     (Integer) pageCountSpinner.getValue(),
                     (Integer) copiesSpinner.getValue(),
                     colorPrintingCheckbox.isSelected()
             );
-            java.nio.file.Files.write(
-                    java.nio.file.Paths.get("src/main/resources/com/example/printshopapp/Order.txt"),
-                    (orderLine + System.lineSeparator()).getBytes(),
-                    java.nio.file.StandardOpenOption.APPEND
-            );
+            systemManager.submitOrderLine(orderLine);
             JOptionPane.showMessageDialog(this, "Order submitted successfully!\nThank you for your order.", "Order Submitted", JOptionPane.INFORMATION_MESSAGE);
             this.dispose();
         } catch (Exception ex) {
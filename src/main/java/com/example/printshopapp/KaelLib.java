@@ -64,25 +64,45 @@ public class KaelLib {
     }
 
     public static class BackgroundPanel extends JPanel {
-        private Image backgroundImage;
+        // Decoded background images, shared by every panel in the process
+        private static final java.util.Map<String, java.awt.image.BufferedImage> SOURCES = new java.util.concurrent.ConcurrentHashMap<>();
+
+        private java.awt.image.BufferedImage backgroundImage;
         private float opacity = 0.4f;
+        // Background already scaled and blended for the current size and opacity; rebuilt only when those change
+        private java.awt.image.BufferedImage rendered;
+        private float renderedOpacity;
 
         public BackgroundPanel(String imagePath) {
             setOpaque(false);
+            backgroundImage = loadSource(imagePath);
+        }
+
+        private static java.awt.image.BufferedImage loadSource(String imagePath) {
+            java.awt.image.BufferedImage cached = SOURCES.get(imagePath);
+            if (cached != null) return cached;
             try {
                 java.net.URL imageUrl = BackgroundPanel.class.getResource(imagePath);
                 if (imageUrl == null) {
                     System.err.println("Could not find image: " + imagePath);
-                    return;
+                    return null;
                 }
-                backgroundImage = new ImageIcon(imageUrl).getImage();
+                java.awt.image.BufferedImage image = javax.imageio.ImageIO.read(imageUrl);
+                if (image == null) {
+                    System.err.println("Unsupported image: " + imagePath);
+                    return null;
+                }
+                cached = SOURCES.putIfAbsent(imagePath, image);
+                if (cached != null) return cached;
 
                 // Print debug information
                 System.out.println("Background image loaded successfully");
-                System.out.println("Image dimensions: " + backgroundImage.getWidth(this) + "x" + backgroundImage.getHeight(this));
+                System.out.println("Image dimensions: " + image.getWidth() + "x" + image.getHeight());
+                return image;
             } catch (Exception e) {
                 System.err.println("Error loading background image: " + e.getMessage());
                 e.printStackTrace();
+                return null;
             }
         }
 
@@ -90,31 +110,46 @@ public class KaelLib {
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
 
-            if (backgroundImage != null) {
-                Graphics2D g2d = (Graphics2D) g.create();
+            if (backgroundImage != null && getWidth() > 0 && getHeight() > 0) {
+                if (rendered == null || rendered.getWidth() != getWidth() || rendered.getHeight() != getHeight()
+                        || renderedOpacity != opacity) {
+                    rendered = render(getWidth(), getHeight());
+                    renderedOpacity = opacity;
+                }
+                g.drawImage(rendered, 0, 0, null);
+            }
+        }
 
-                // Enable anti-aliasing for better quality
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        // Scales the background to fill the size and applies the opacity, once per size
+        private java.awt.image.BufferedImage render(int width, int height) {
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            java.awt.image.BufferedImage image = config != null
+                    ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                    : new java.awt.image.BufferedImage(width, height, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = image.createGraphics();
 
-                // Set opacity
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+            // Enable anti-aliasing for better quality
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
-                // Calculate scaling to fill the panel while maintaining aspect ratio
-                double scaleX = (double) getWidth() / backgroundImage.getWidth(this);
-                double scaleY = (double) getHeight() / backgroundImage.getHeight(this);
-                double scale = Math.max(scaleX, scaleY);
+            // Set opacity
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
 
-                int newWidth = (int) (backgroundImage.getWidth(this) * scale);
-                int newHeight = (int) (backgroundImage.getHeight(this) * scale);
+            // Calculate scaling to fill the panel while maintaining aspect ratio
+            double scaleX = (double) width / backgroundImage.getWidth();
+            double scaleY = (double) height / backgroundImage.getHeight();
+            double scale = Math.max(scaleX, scaleY);
 
-                // Center the image
-                int x = (getWidth() - newWidth) / 2;
-                int y = (getHeight() - newHeight) / 2;
+            int newWidth = (int) (backgroundImage.getWidth() * scale);
+            int newHeight = (int) (backgroundImage.getHeight() * scale);
 
-                g2d.drawImage(backgroundImage, x, y, newWidth, newHeight, this);
-                g2d.dispose();
-            }
+            // Center the image
+            int x = (width - newWidth) / 2;
+            int y = (height - newHeight) / 2;
+
+            g2d.drawImage(backgroundImage, x, y, newWidth, newHeight, null);
+            g2d.dispose();
+            return image;
         }
 
         public void setOpacity(float opacity) {
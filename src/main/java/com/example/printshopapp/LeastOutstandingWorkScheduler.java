@@ -0,0 +1,151 @@
+package com.example.printshopapp;
+
+import java.util.*;
+
+/**
+ * Gives each order to the staff member with the least outstanding work.
+ * An order's work is pages x copies, doubled for colour, and it counts against its assigned staff
+ * while it is Accepted or On Process. Staff are kept in a TreeSet ordered by load, so selection
+ * and every load update are O(log n). Ties go to whoever was picked least recently, which makes
+ * an idle shop behave like round robin.
+ */
+public class LeastOutstandingWorkScheduler implements StaffAssignmentScheduler {
+    static final int COLOR_FACTOR = 2;
+    static final String POLICY_LINE = "policy=least-work";
+
+    private final Map<Integer, Long> loads = new HashMap<>(); // also holds load for staff not yet added
+    private final Map<Integer, Long> lastPicked = new HashMap<>();
+    private final Map<String, Work> tracked = new HashMap<>(); // order ID -> work counted for it
+    private final TreeSet<Integer> byLoad = new TreeSet<>(Comparator
+            .comparingLong((Integer id) -> loads.getOrDefault(id, 0L))
+            .thenComparingLong(id -> lastPicked.getOrDefault(id, 0L))
+            .thenComparingInt(id -> id));
+    private long pickCounter;
+
+    private static final class Work {
+        final int staffId;
+        final long amount;
+
+        Work(int staffId, long amount) {
+            this.staffId = staffId;
+            this.amount = amount;
+        }
+    }
+
+    public static long workOf(Order order) {
+        long work = (long) Math.max(1, order.getPageCount()) * Math.max(1, order.getCopies());
+        return order.isColorPrinting() ? work * COLOR_FACTOR : work;
+    }
+
+    static boolean isOutstanding(Order order) {
+        return order.getAssignedStaffId() != 0
+                && ("Accepted".equals(order.getStatus()) || "On Process".equals(order.getStatus()));
+    }
+
+    @Override
+    public synchronized void addStaff(int staffId) {
+        byLoad.add(staffId);
+    }
+
+    @Override
+    public synchronized void removeStaff(int staffId) {
+        byLoad.remove(staffId);
+    }
+
+    @Override
+    public synchronized void clearStaff() {
+        byLoad.clear();
+    }
+
+    @Override
+    public synchronized boolean hasStaff() {
+        return !byLoad.isEmpty();
+    }
+
+    @Override
+    public synchronized int selectStaff(Order order) {
+        if (byLoad.isEmpty()) return 0;
+        int staffId = byLoad.pollFirst();
+        lastPicked.put(staffId, ++pickCounter);
+        byLoad.add(staffId);
+        // The load itself is added when the assignment comes back through orderChanged
+        return staffId;
+    }
+
+    @Override
+    public synchronized void orderChanged(Order order, boolean removed) {
+        Work previous = tracked.remove(order.getId());
+        if (previous != null) {
+            adjust(previous.staffId, -previous.amount);
+        }
+        if (!removed && isOutstanding(order)) {
+            Work work = new Work(order.getAssignedStaffId(), workOf(order));
+            tracked.put(order.getId(), work);
+            adjust(work.staffId, work.amount);
+        }
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Order> orders) {
+        List<Integer> staff = new ArrayList<>(byLoad);
+        byLoad.clear();
+        loads.clear();
+        tracked.clear();
+        for (Order order : orders) {
+            if (isOutstanding(order)) {
+                Work work = new Work(order.getAssignedStaffId(), workOf(order));
+                tracked.put(order.getId(), work);
+                loads.merge(work.staffId, work.amount, Long::sum);
+            }
+        }
+        byLoad.addAll(staff);
+    }
+
+    @Override
+    public synchronized List<String> saveState() {
+        Set<Integer> staff = new TreeSet<>(lastPicked.keySet());
+        for (int staffId : byLoad) staff.add(staffId);
+        List<String> lines = new ArrayList<>(staff.size() + 2);
+        lines.add(POLICY_LINE);
+        lines.add("pick," + pickCounter);
+        for (int staffId : staff) {
+            lines.add("staff," + staffId + "," + lastPicked.getOrDefault(staffId, 0L));
+        }
+        return lines;
+    }
+
+    // Restores the tie-break rotation; loads always come from the orders via rebuild()
+    @Override
+    public synchronized void restoreState(List<String> lines) {
+        if (lines.isEmpty() || !POLICY_LINE.equals(lines.get(0))) return;
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split(",");
+            try {
+                if ("pick".equals(parts[0])) {
+                    pickCounter = Math.max(pickCounter, Long.parseLong(parts[1].trim()));
+                } else if ("staff".equals(parts[0]) && parts.length >= 3) {
+                    int staffId = Integer.parseInt(parts[1].trim());
+                    long picked = Long.parseLong(parts[2].trim());
+                    boolean member = byLoad.remove(staffId);
+                    lastPicked.put(staffId, picked);
+                    if (member) byLoad.add(staffId);
+                }
+            } catch (NumberFormatException e) {
+                // Skip malformed lines
+            }
+        }
+    }
+
+    public synchronized long getLoad(int staffId) {
+        return loads.getOrDefault(staffId, 0L);
+    }
+
+    // The set is ordered by load, so a member must be taken out before its load changes
+    private void adjust(int staffId, long delta) {
+        boolean member = byLoad.remove(staffId);
+        long load = loads.getOrDefault(staffId, 0L) + delta;
+        if (load == 0) loads.remove(staffId);
+        else loads.put(staffId, load);
+        if (member) byLoad.add(staffId);
+    }
+}
@@ -83,8 +83,19 @@ public class LoginPage extends JFrame {
 
     private void openOrderFormDirectly() {
         // Ensure non-school users always go through GuestPreOrderForm
-        new GuestPreOrderForm(systemManager, this).setVisible(true);
-        dispose();
+        openWhenOrdersLoaded(() -> {
+            new GuestPreOrderForm(systemManager, this).setVisible(true);
+            dispose();
+        });
+    }
+
+    // Orders may still be loading in the background at startup; wait for them before leaving the login page
+    private void openWhenOrdersLoaded(Runnable open) {
+        if (!systemManager.isOrdersLoaded()) {
+            setEnabled(false);
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        }
+        systemManager.whenOrdersLoaded(open);
     }
 
     private void openCustomerRegistrationForm() {
@@ -105,14 +116,16 @@ public class LoginPage extends JFrame {
                 systemManager.logAction(user.getName(), "Logged in successfully");
                 systemManager.setCurrentUser(user); // Set the current user after successful login
 
-                LoginPage.this.dispose();
-                if (user.getRole().equals("admin")) {
-                    new AdminDashboard(systemManager).setVisible(true);
-                } else if (user.getRole().equals("staff")) {
-                    new StaffDashboard(systemManager, user).setVisible(true); // Pass both SystemManager and User
-                } else {
-                    new CustomerOptionsWindow(systemManager).setVisible(true);
-                }
+                openWhenOrdersLoaded(() -> {
+                    LoginPage.this.dispose();
+                    if (user.getRole().equals("admin")) {
+                        new AdminDashboard(systemManager).setVisible(true);
+                    } else if (user.getRole().equals("staff")) {
+                        new StaffDashboard(systemManager, user).setVisible(true); // Pass both SystemManager and User
+                    } else {
+                        new CustomerOptionsWindow(systemManager).setVisible(true);
+                    }
+                });
             } else {
                 systemManager.logAction(username, "Failed login attempt");
                 JOptionPane.showMessageDialog(LoginPage.this,
@@ -3,6 +3,10 @@ package com.example.printshopapp;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import javax.swing.border.TitledBorder;
 
 public class NonSchoolUserForm extends JFrame {
@@ -250,38 +254,42 @@ public class NonSchoolUserForm extends JFrame {
             return;
         }
 
-        // Save uploaded files to uploads/ directory
-        String orderReceiptPath = saveUploadedFile(orderReceiptFile, "order_receipt_");
-        String gcashReceiptPath = saveUploadedFile(gcashReceiptFile, "gcash_receipt_");
-        StringBuilder printFilesPaths = new StringBuilder();
-        for (File f : printFiles) {
-            String path = saveUploadedFile(f, "print_file_");
-            printFilesPaths.append(path).append(";");
-        }
-
-        // Here you would save the order info and file paths to a file or database for admin access
-        // For demo, just show a dialog with the saved paths
-        JOptionPane.showMessageDialog(this,
-            "Order submitted!\nOrder Receipt: " + orderReceiptPath +
-            "\nGCash Receipt: " + gcashReceiptPath +
-            "\nPrint Files: " + printFilesPaths,
-            "Order Submitted", JOptionPane.INFORMATION_MESSAGE);
-        // Optionally, clear the form or close
-    }
-
-    private String saveUploadedFile(File file, String prefix) {
-        if (file == null) return "";
-        try {
-            File uploadsDir = new File("uploads");
-            if (!uploadsDir.exists()) uploadsDir.mkdirs();
-            String newFileName = prefix + System.currentTimeMillis() + "_" + file.getName();
-            File dest = new File(uploadsDir, newFileName);
-            java.nio.file.Files.copy(file.toPath(), dest.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            return dest.getAbsolutePath();
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            return "";
-        }
+        // Copy the files into the upload store in the background so the form stays responsive
+        List<File> uploads = new ArrayList<>();
+        uploads.add(orderReceiptFile);
+        uploads.add(gcashReceiptFile);
+        uploads.addAll(Arrays.asList(printFiles));
+        ProgressMonitor monitor = new ProgressMonitor(this, "Uploading files...", null, 0, 100);
+        setEnabled(false);
+        systemManager.getUploadService().ingestWithProgress(uploads, monitor)
+            .whenComplete((paths, error) -> SwingUtilities.invokeLater(() -> {
+                monitor.close();
+                setEnabled(true);
+                if (error instanceof CancellationException) {
+                    return; // cancelled from the progress dialog
+                }
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    JOptionPane.showMessageDialog(this, "Failed to upload files: " + cause.getMessage(),
+                        "Upload Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                String orderReceiptPath = paths.get(0);
+                String gcashReceiptPath = paths.get(1);
+                StringBuilder printFilesPaths = new StringBuilder();
+                for (String path : paths.subList(2, paths.size())) {
+                    printFilesPaths.append(path).append(";");
+                }
+
+                // Here you would save the order info and file paths to a file or database for admin access
+                // For demo, just show a dialog with the saved paths
+                JOptionPane.showMessageDialog(this,
+                    "Order submitted!\nOrder Receipt: " + orderReceiptPath +
+                    "\nGCash Receipt: " + gcashReceiptPath +
+                    "\nPrint Files: " + printFilesPaths,
+                    "Order Submitted", JOptionPane.INFORMATION_MESSAGE);
+                // Optionally, clear the form or close
+            }));
     }
 
     private void goBack() {
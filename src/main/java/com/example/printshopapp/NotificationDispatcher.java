@@ -0,0 +1,81 @@
+package com.example.printshopapp;
+
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process delivery of new notifications to open customer windows.
+ * Subscribers are filed under their customer ID and name, the same keys the inbox matches on,
+ * so publishing a notification only touches that customer's listeners.
+ */
+public class NotificationDispatcher {
+    private static class Subscription {
+        final int customerId;
+        final String customerName;
+
+        Subscription(int customerId, String customerName) {
+            this.customerId = customerId;
+            this.customerName = customerName;
+        }
+    }
+
+    private final Map<Integer, List<NotificationListener>> byCustomerId = new ConcurrentHashMap<>();
+    private final Map<String, List<NotificationListener>> byCustomerName = new ConcurrentHashMap<>();
+    private final Map<NotificationListener, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    public void subscribe(int customerId, String customerName, NotificationListener listener) {
+        if (listener == null) return;
+        unsubscribe(listener);
+        String name = customerName == null ? null : customerName.trim();
+        subscriptions.put(listener, new Subscription(customerId, name));
+        byCustomerId.computeIfAbsent(customerId, k -> new CopyOnWriteArrayList<>()).add(listener);
+        if (name != null) {
+            byCustomerName.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+    }
+
+    public void unsubscribe(NotificationListener listener) {
+        if (listener == null) return;
+        Subscription subscription = subscriptions.remove(listener);
+        if (subscription == null) return;
+        List<NotificationListener> idListeners = byCustomerId.get(subscription.customerId);
+        if (idListeners != null) idListeners.remove(listener);
+        if (subscription.customerName != null) {
+            List<NotificationListener> nameListeners = byCustomerName.get(subscription.customerName);
+            if (nameListeners != null) nameListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Delivers the notification to every listener subscribed under its customer ID or name, once each.
+     */
+    public void publish(NotificationStore.Notification notification) {
+        List<NotificationListener> idListeners = byCustomerId.get(notification.getCustomerId());
+        List<NotificationListener> nameListeners = byCustomerName.get(notification.getCustomerName());
+        boolean noIdListeners = idListeners == null || idListeners.isEmpty();
+        boolean noNameListeners = nameListeners == null || nameListeners.isEmpty();
+        if (noIdListeners && noNameListeners) return;
+        Runnable deliver = () -> {
+            if (!noIdListeners) {
+                for (NotificationListener listener : idListeners) {
+                    listener.notificationAdded(notification);
+                }
+            }
+            if (!noNameListeners) {
+                for (NotificationListener listener : nameListeners) {
+                    // Already notified through its customer ID
+                    if (!noIdListeners && idListeners.contains(listener)) continue;
+                    listener.notificationAdded(notification);
+                }
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            deliver.run();
+        } else {
+            SwingUtilities.invokeLater(deliver);
+        }
+    }
+}
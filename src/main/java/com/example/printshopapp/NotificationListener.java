@@ -0,0 +1,9 @@
+package com.example.printshopapp;
+
+/**
+ * Receives new customer notifications from SystemManager. Always called on the Swing event dispatch thread.
+ */
+@FunctionalInterface
+public interface NotificationListener {
+    void notificationAdded(NotificationStore.Notification notification);
+}
@@ -0,0 +1,225 @@
+package com.example.printshopapp;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Ordernotification.txt ("customerId,customerName,message" per line) with an in-memory index of
+ * line offsets per customer ID and per customer name. The file is scanned once; after that an inbox
+ * page reads only that customer's lines, newest first, and appends keep the index current.
+ */
+public class NotificationStore {
+    private static final Logger LOGGER = Logger.getLogger(NotificationStore.class.getName());
+
+    /** One notification line. */
+    public static class Notification {
+        private final int customerId;
+        private final String customerName;
+        private final String message;
+
+        public Notification(int customerId, String customerName, String message) {
+            this.customerId = customerId;
+            this.customerName = customerName;
+            this.message = message;
+        }
+
+        public int getCustomerId() { return customerId; }
+        public String getCustomerName() { return customerName; }
+        public String getMessage() { return message; }
+    }
+
+    private final Path path;
+    private boolean indexed = false;
+    private long fileLength = 0; // bytes covered by the index
+    private final Map<Integer, OffsetList> offsetsById = new HashMap<>(); // customerId -> line offsets, oldest first
+    private final Map<String, OffsetList> offsetsByName = new HashMap<>();
+
+    // Growable list of line offsets in file order
+    private static class OffsetList {
+        long[] values = new long[4];
+        int size;
+
+        void add(long offset) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = offset;
+        }
+    }
+
+    public NotificationStore(String filePath) {
+        this.path = Paths.get(filePath);
+    }
+
+    /**
+     * Appends a notification line and indexes it. Returns the stored notification, or null if it could not be written.
+     */
+    public synchronized Notification append(int customerId, String customerName, String message) {
+        ensureIndexed();
+        String text = message.replace('\n', ' ').replace('\r', ' ');
+        String line = customerId + "," + customerName + "," + text;
+        try {
+            Files.createDirectories(path.getParent());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long offset = channel.size();
+                // Start on a fresh line if the file does not end with a newline
+                String prefix = offset > 0 && !endsWithNewline(channel, offset) ? System.lineSeparator() : "";
+                ByteBuffer buffer = ByteBuffer.wrap((prefix + line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                for (long position = offset; buffer.hasRemaining(); ) {
+                    position += channel.write(buffer, position);
+                }
+                offset += prefix.getBytes(StandardCharsets.UTF_8).length;
+                addToIndex(String.valueOf(customerId), customerName, offset);
+                fileLength = channel.size();
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write order notification: " + e.getMessage());
+            return null;
+        }
+        return new Notification(customerId, customerName.trim(), text.trim());
+    }
+
+    // Number of notifications for the customer (matched by ID or name, as the inbox always has)
+    public synchronized int count(int customerId, String customerName) {
+        ensureIndexed();
+        return offsetsFor(customerId, customerName).length;
+    }
+
+    /**
+     * Returns up to limit notifications for the customer, newest first, skipping the first skip.
+     */
+    public synchronized List<Notification> page(int customerId, String customerName, int skip, int limit) {
+        ensureIndexed();
+        long[] offsets = offsetsFor(customerId, customerName);
+        List<Notification> result = new ArrayList<>();
+        if (skip >= offsets.length || limit <= 0) return result;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = offsets.length - 1 - skip; i >= 0 && result.size() < limit; i--) {
+                Notification notification = parse(readLine(channel, offsets[i]));
+                if (notification != null) result.add(notification);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read notifications: " + e.getMessage());
+        }
+        return result;
+    }
+
+    // Merges the ID and name matches into one ascending list without duplicates
+    private long[] offsetsFor(int customerId, String customerName) {
+        OffsetList idList = offsetsById.get(customerId);
+        OffsetList nameList = customerName == null ? null : offsetsByName.get(customerName.trim());
+        long[] byId = idList == null ? new long[0] : idList.values;
+        long[] byName = nameList == null ? new long[0] : nameList.values;
+        int idCount = idList == null ? 0 : idList.size;
+        int nameCount = nameList == null ? 0 : nameList.size;
+        long[] merged = new long[idCount + nameCount];
+        int i = 0, j = 0, n = 0;
+        while (i < idCount || j < nameCount) {
+            long next;
+            if (j >= nameCount || (i < idCount && byId[i] <= byName[j])) {
+                next = byId[i++];
+            } else {
+                next = byName[j++];
+            }
+            if (n == 0 || merged[n - 1] != next) merged[n++] = next;
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    private void ensureIndexed() {
+        if (indexed) return;
+        indexed = true;
+        if (!Files.exists(path)) return;
+        // One streaming pass; only the first two fields of each line are decoded
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024)) {
+            ByteArrayOutputStream field = new ByteArrayOutputStream();
+            String id = null;
+            int fieldNo = 0;
+            long offset = 0, lineStart = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                offset++;
+                if (b == '\n') {
+                    if (fieldNo >= 2) {
+                        // id and name were both found; the message follows
+                        addToIndex(id, field.toString(StandardCharsets.UTF_8), lineStart);
+                    }
+                    field.reset();
+                    id = null;
+                    fieldNo = 0;
+                    lineStart = offset;
+                } else if (fieldNo < 2) {
+                    if (b == ',') {
+                        if (fieldNo == 0) {
+                            id = field.toString(StandardCharsets.UTF_8);
+                            field.reset();
+                        }
+                        fieldNo++;
+                    } else {
+                        field.write(b);
+                    }
+                }
+            }
+            fileLength = offset;
+        } catch (IOException e) {
+            LOGGER.warning("Failed to index notifications: " + e.getMessage());
+        }
+    }
+
+    private void addToIndex(String customerId, String customerName, long offset) {
+        try {
+            offsetsById.computeIfAbsent(Integer.parseInt(customerId.trim()), k -> new OffsetList()).add(offset);
+        } catch (NumberFormatException ignored) {
+            // not a customer line (e.g. old pipe-separated entries); still findable by name
+        }
+        offsetsByName.computeIfAbsent(customerName.trim(), k -> new OffsetList()).add(offset);
+    }
+
+    private static boolean endsWithNewline(FileChannel channel, long size) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, size - 1);
+        return last.get(0) == '\n';
+    }
+
+    private String readLine(FileChannel channel, long offset) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long position = offset;
+        while (position < fileLength) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    return stripCarriageReturn(line.toString(StandardCharsets.UTF_8));
+                }
+                line.write(b);
+            }
+            position += read;
+        }
+        return stripCarriageReturn(line.toString(StandardCharsets.UTF_8));
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private static Notification parse(String line) {
+        String[] parts = line.split(",", 3);
+        if (parts.length < 3) return null;
+        int customerId;
+        try {
+            customerId = Integer.parseInt(parts[0].trim());
+        } catch (NumberFormatException e) {
+            customerId = 0;
+        }
+        return new Notification(customerId, parts[1].trim(), parts[2].trim());
+    }
+}
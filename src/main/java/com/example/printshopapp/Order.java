@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class Order {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final String id;
     private final int customerId;
     private final String customerName;
@@ -19,17 +21,29 @@ public class Order {
     private String documentPath;   // Path to uploaded document
     private String receiptPath;    // Path to uploaded receipt
     private String gcashReceiptPath; // Path to uploaded GCash receipt
+    // Display strings are derived from final fields, so they are formatted once and reused by tables
+    private String formattedDate;
+    private String formattedTotalAmount;
 
     public Order(String id, int customerId, String customerName,
                 String status, int assignedStaffId, double totalAmount,
                 int pageCount, int copies, boolean isColorPrinting,
                 String documentPath, String receiptPath, String gcashReceiptPath) {
+        this(id, customerId, customerName, status, assignedStaffId, totalAmount, pageCount, copies, isColorPrinting,
+                documentPath, receiptPath, gcashReceiptPath, LocalDateTime.now());
+    }
+
+    // Recreates an order with its original placement date, e.g. when reading it back from file
+    public Order(String id, int customerId, String customerName,
+                String status, int assignedStaffId, double totalAmount,
+                int pageCount, int copies, boolean isColorPrinting,
+                String documentPath, String receiptPath, String gcashReceiptPath, LocalDateTime date) {
         this.id = id;
         this.customerId = customerId;
         this.customerName = customerName;
         this.status = status;  // FIX: Use the status from file/parameter
         this.assignedStaffId = assignedStaffId;
-        this.date = LocalDateTime.now();
+        this.date = date;
         this.totalAmount = totalAmount;
         this.pageCount = pageCount;
         this.copies = copies;
@@ -52,7 +66,14 @@ public class Order {
     public boolean isColorPrinting() { return isColorPrinting; }
 
     public String getDate() {
-        return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        if (formattedDate == null) {
+            formattedDate = date.format(DATE_FORMAT);
+        }
+        return formattedDate;
+    }
+
+    public LocalDateTime getDateTime() {
+        return date;
     }
 
     public double getTotalAmount() {
@@ -60,7 +81,10 @@ public class Order {
     }
 
     public String getFormattedTotalAmount() {
-        return KaelLib.formatCurrency(totalAmount);
+        if (formattedTotalAmount == null) {
+            formattedTotalAmount = KaelLib.formatCurrency(totalAmount);
+        }
+        return formattedTotalAmount;
     }
 
     public String getDocumentPath() { return documentPath; }
@@ -95,48 +119,14 @@ public class Order {
         this.isReviewed = reviewed ? 1 : 0;
     }
 
+    // One record in the current Order.txt format, see OrderCodec
     @Override
     public String toString() {
-        return String.format("%s,%d,%s,%s,%d,%.1f,%d,%d,%b,%s,%s,%d,%s,%s,%s",
-            id, customerId, customerName, status, assignedStaffId,
-            totalAmount, pageCount, copies, isColorPrinting, date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
-            adminResponse, isReviewed, documentPath == null ? "" : documentPath, receiptPath == null ? "" : receiptPath, gcashReceiptPath == null ? "" : gcashReceiptPath);
+        return OrderCodec.encode(this);
     }
 
-    // Add a constructor that can recreate an Order from a saved string
+    // Recreates an Order from a saved line in the current or a legacy format; null if the line is not an order
     public static Order fromString(String line) {
-        // Split all fields, so that file paths with commas are preserved only in the last field
-        String[] parts = line.split(",", -1); // -1 keeps trailing empty strings
-        if (parts.length < 15) return null;
-        java.util.function.Function<String, Integer> parseIntSafe = s -> {
-            try { return (s == null || s.isEmpty()) ? 0 : Integer.parseInt(s); } catch (Exception e) { return 0; }
-        };
-        java.util.function.Function<String, Double> parseDoubleSafe = s -> {
-            try { return (s == null || s.isEmpty()) ? 0.0 : Double.parseDouble(s); } catch (Exception e) { return 0.0; }
-        };
-        java.util.function.Function<String, Boolean> parseBoolSafe = s -> {
-            try { return (s == null || s.isEmpty()) ? false : Boolean.parseBoolean(s); } catch (Exception e) { return false; }
-        };
-        String id = parts[0];
-        int customerId = parts.length > 1 ? parseIntSafe.apply(parts[1]) : 0;
-        String customerName = parts.length > 2 ? parts[2] : "";
-        String status = parts.length > 3 ? parts[3] : "Pending";
-        int assignedStaffId = parts.length > 4 ? parseIntSafe.apply(parts[4]) : 0;
-        double totalAmount = parts.length > 5 ? parseDoubleSafe.apply(parts[5]) : 0.0;
-        int pageCount = parts.length > 6 ? parseIntSafe.apply(parts[6]) : 0;
-        int copies = parts.length > 7 ? parseIntSafe.apply(parts[7]) : 0;
-        boolean isColorPrinting = parts.length > 8 ? parseBoolSafe.apply(parts[8]) : false;
-        String date = parts.length > 9 ? parts[9] : "";
-        String adminResponse = parts.length > 10 ? parts[10] : "";
-        int isReviewed = parts.length > 11 ? parseIntSafe.apply(parts[11]) : 0;
-        String documentPath = parts.length > 12 ? parts[12] : "";
-        String receiptPath = parts.length > 13 ? parts[13] : "";
-        String gcashReceiptPath = parts.length > 14 ? parts[14] : "";
-        Order order = new Order(
-            id, customerId, customerName, status, assignedStaffId, totalAmount, pageCount, copies, isColorPrinting, documentPath, receiptPath, gcashReceiptPath
-        );
-        order.adminResponse = adminResponse;
-        order.isReviewed = isReviewed;
-        return order;
+        return OrderCodec.decode(line);
     }
 }
@@ -0,0 +1,182 @@
+package com.example.printshopapp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+/**
+ * Loads Order.txt in parallel. The file is cut into chunks that each end on a newline; every chunk
+ * is read with a positional read into its own heap buffer and parsed on the common fork-join pool,
+ * then the chunk results are merged in file order, keeping the first record for each order ID.
+ * Small files are parsed in a single chunk. The file is not memory-mapped: a mapping outlives the
+ * channel until GC, and on Windows that blocks the atomic replace of Order.txt during compaction.
+ */
+public class OrderBulkLoader {
+    private static final Logger LOGGER = Logger.getLogger(OrderBulkLoader.class.getName());
+    private static final long MIN_CHUNK = 1024 * 1024;
+    private static final long MAX_CHUNK = 16L * 1024 * 1024; // bounds the heap held by chunks in flight
+    private static final int MAX_LOGGED_SKIPS = 20;
+
+    /** Orders in file order, without duplicate IDs, and the number of lines that were not orders. */
+    public static class Result {
+        private final List<Order> orders;
+        private final int skippedLines;
+
+        Result(List<Order> orders, int skippedLines) {
+            this.orders = orders;
+            this.skippedLines = skippedLines;
+        }
+
+        public List<Order> getOrders() { return orders; }
+        public int getSkippedLines() { return skippedLines; }
+    }
+
+    private static class ChunkResult {
+        final List<Order> orders = new ArrayList<>();
+        final List<String> skipped = new ArrayList<>(); // first few, for the log
+        int skippedCount;
+    }
+
+    private OrderBulkLoader() {
+    }
+
+    public static Result load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] bounds = chunkBounds(channel, size);
+            List<ChunkTask> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                tasks.add(new ChunkTask(channel, bounds[i], bounds[i + 1]));
+            }
+            List<ChunkResult> results = new ArrayList<>(tasks.size());
+            try {
+                if (tasks.size() == 1) {
+                    results.add(tasks.get(0).compute());
+                } else {
+                    for (ChunkTask task : tasks) {
+                        ForkJoinPool.commonPool().execute(task);
+                    }
+                    for (ChunkTask task : tasks) {
+                        results.add(task.join());
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return merge(results);
+        }
+    }
+
+    // Chunk start offsets plus the file size; every chunk after the first starts just after a newline
+    private static long[] chunkBounds(FileChannel channel, long size) throws IOException {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        long target = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, size / Math.max(1, parallelism * 4L)));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long start = 0;
+        while (size - start > target) {
+            long position = start + target;
+            long lineEnd = -1;
+            // Scan forward from the tentative cut to the next newline
+            while (lineEnd < 0 && position < size) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                if (read <= 0) break;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        lineEnd = position + i;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (lineEnd < 0 || lineEnd + 1 >= size) break;
+            start = lineEnd + 1;
+            bounds.add(start);
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }
+
+    private static Result merge(List<ChunkResult> results) {
+        int total = 0, skipped = 0;
+        for (ChunkResult result : results) total += result.orders.size();
+        List<Order> orders = new ArrayList<>(total);
+        Set<String> seenOrderIds = new HashSet<>(total * 2);
+        int logged = 0;
+        for (ChunkResult result : results) {
+            for (Order order : result.orders) {
+                if (seenOrderIds.add(order.getId())) {
+                    orders.add(order);
+                }
+            }
+            skipped += result.skippedCount;
+            for (String line : result.skipped) {
+                if (logged++ < MAX_LOGGED_SKIPS) {
+                    LOGGER.warning("Skipped invalid order line: " + line);
+                }
+            }
+        }
+        if (skipped > MAX_LOGGED_SKIPS) {
+            LOGGER.warning("Skipped " + skipped + " invalid order lines in total");
+        }
+        return new Result(orders, skipped);
+    }
+
+    private static class ChunkTask extends RecursiveTask<ChunkResult> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            ChunkResult result = new ChunkResult();
+            if (end <= start) return result;
+            ByteBuffer chunk = ByteBuffer.allocate((int) (end - start));
+            try {
+                while (chunk.hasRemaining()) {
+                    if (channel.read(chunk, start + chunk.position()) < 0) break; // file shrank while loading
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            byte[] bytes = chunk.array();
+            int limit = chunk.position();
+            int lineStart = 0;
+            for (int i = 0; i <= limit; i++) {
+                if (i < limit && bytes[i] != '\n') continue;
+                parseLine(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8).trim(), result);
+                lineStart = i + 1;
+            }
+            return result;
+        }
+
+        private static void parseLine(String trimmed, ChunkResult result) {
+            if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("OrderID:")) return;
+            Order order = Order.fromString(trimmed);
+            if (order != null) {
+                result.orders.add(order);
+            } else {
+                result.skippedCount++;
+                if (result.skipped.size() < MAX_LOGGED_SKIPS) result.skipped.add(trimmed);
+            }
+        }
+    }
+}
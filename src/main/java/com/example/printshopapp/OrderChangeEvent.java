@@ -0,0 +1,24 @@
+package com.example.printshopapp;
+
+/**
+ * Describes a change to the in-memory order store, published by SystemManager to dashboards.
+ */
+public class OrderChangeEvent {
+    public enum Type {
+        ADDED,    // a new order was stored
+        UPDATED,  // status, review or assignment of an existing order changed
+        REMOVED,  // an order was dropped from the store
+        RELOADED  // the whole store was replaced (e.g. reloaded from Order.txt); order is null
+    }
+
+    private final Type type;
+    private final Order order;
+
+    public OrderChangeEvent(Type type, Order order) {
+        this.type = type;
+        this.order = order;
+    }
+
+    public Type getType() { return type; }
+    public Order getOrder() { return order; }
+}
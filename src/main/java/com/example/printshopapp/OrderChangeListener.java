@@ -0,0 +1,9 @@
+package com.example.printshopapp;
+
+/**
+ * Receives order change events from SystemManager. Always called on the Swing event dispatch thread.
+ */
+@FunctionalInterface
+public interface OrderChangeListener {
+    void orderChanged(OrderChangeEvent event);
+}
@@ -0,0 +1,315 @@
+package com.example.printshopapp;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes order records.
+ *
+ * Text format, version 2 (one order per line):
+ *   ~2,id,customerId,customerName,status,staffId,total,pages,copies,color,date,adminResponse,reviewed,documentPath,receiptPath,gcashReceiptPath
+ * A field is quoted only if it starts with a quote or contains a comma, CR or LF; a quoted field
+ * is wrapped in quotes with \" \\ \n \r escaped inside. Any other field is written verbatim, even if
+ * it has a quote or backslash after its first character, and null is written as an empty field.
+ * Plain Windows paths stay readable, and any value survives a round trip on a single line.
+ *
+ * Lines without the "~2," prefix are legacy records in one of the two older layouts
+ * (Order.toString and SystemManager.generateOrderLine) and are decoded on a best-effort basis.
+ *
+ * The binary form is a compact alternative for snapshots: a version byte, then each field as a
+ * fixed-width number or length-prefixed UTF-8 string.
+ */
+public final class OrderCodec {
+    public static final int VERSION = 2;
+    private static final String PREFIX = "~2,";
+    private static final int FIELD_COUNT = 15;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private OrderCodec() {
+    }
+
+    // --- Text ---
+
+    public static String encode(Order order) {
+        StringBuilder sb = new StringBuilder(160).append(PREFIX);
+        appendField(sb, order.getId()).append(',');
+        sb.append(order.getCustomerId()).append(',');
+        appendField(sb, order.getCustomerName()).append(',');
+        appendField(sb, order.getStatus()).append(',');
+        sb.append(order.getAssignedStaffId()).append(',');
+        sb.append(order.getTotalAmount()).append(',');
+        sb.append(order.getPageCount()).append(',');
+        sb.append(order.getCopies()).append(',');
+        sb.append(order.isColorPrinting()).append(',');
+        sb.append(order.getDate()).append(',');
+        appendField(sb, order.getAdminResponse()).append(',');
+        sb.append(order.isReviewed() ? 1 : 0).append(',');
+        appendField(sb, order.getDocumentPath()).append(',');
+        appendField(sb, order.getReceiptPath()).append(',');
+        appendField(sb, order.getGcashReceiptPath());
+        return sb.toString();
+    }
+
+    private static StringBuilder appendField(StringBuilder sb, String value) {
+        if (value == null || value.isEmpty()) return sb;
+        boolean quote = value.charAt(0) == '"';
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '\n' || c == '\r';
+        }
+        if (!quote) return sb.append(value);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.append('"');
+    }
+
+    /**
+     * Decodes one line in the current or a legacy format. Returns null if it is not an order record.
+     */
+    public static Order decode(String line) {
+        if (line == null) return null;
+        if (line.startsWith(PREFIX)) {
+            return decodeCurrent(line);
+        }
+        return decodeLegacy(line);
+    }
+
+    private static Order decodeCurrent(String line) {
+        String[] fields = new String[FIELD_COUNT];
+        int position = PREFIX.length();
+        int count = 0;
+        StringBuilder quoted = null;
+        while (count < FIELD_COUNT) {
+            if (position < line.length() && line.charAt(position) == '"') {
+                if (quoted == null) quoted = new StringBuilder(); else quoted.setLength(0);
+                int i = position + 1;
+                for (; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c == '"') break;
+                    if (c == '\\' && i + 1 < line.length()) {
+                        char next = line.charAt(++i);
+                        quoted.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                if (i >= line.length()) return null; // unterminated quote
+                fields[count++] = quoted.toString();
+                position = i + 1;
+            } else {
+                int end = line.indexOf(',', position);
+                if (end < 0) end = line.length();
+                fields[count++] = line.substring(position, end);
+                position = end;
+            }
+            if (position >= line.length()) break;
+            if (line.charAt(position) != ',') return null;
+            position++;
+        }
+        if (count < FIELD_COUNT) return null;
+        return build(fields[0], parseInt(fields[1]), fields[2], fields[3], parseInt(fields[4]), parseDouble(fields[5]),
+                parseInt(fields[6]), parseInt(fields[7]), parseBoolean(fields[8]), parseDate(fields[9]),
+                fields[10], parseBoolean(fields[11]), fields[12], fields[13], fields[14]);
+    }
+
+    // Legacy records were written without quoting, so commas inside values make the layout ambiguous
+    private static Order decodeLegacy(String line) {
+        String[] parts = line.split(",", -1);
+        if (parts.length < FIELD_COUNT || parts[0].isEmpty()) return null;
+        int n = parts.length;
+        if (looksLikeIsoDate(parts[n - 1])) {
+            // generateOrderLine: id,customerId,name,status,staffId,total,pages,copies,color,files;,receipt,gcash,response,reviewed,date
+            // Print files end with ';', so that field is joined up to its last part
+            int filesEnd = 9;
+            for (int i = 9; i < n - 5; i++) {
+                if (parts[i].endsWith(";")) filesEnd = i;
+            }
+            String documentPath = join(parts, 9, filesEnd + 1);
+            String receiptPath = parts[filesEnd + 1];
+            String gcashReceiptPath = join(parts, filesEnd + 2, n - 3);
+            return build(parts[0], parseInt(parts[1]), parts[2], parts[3], parseInt(parts[4]), parseDouble(parts[5]),
+                    parseInt(parts[6]), parseInt(parts[7]), parseBoolean(parts[8]), parseDate(parts[n - 1]),
+                    parts[n - 3], parseBoolean(parts[n - 2]), documentPath, receiptPath, gcashReceiptPath);
+        }
+        // Order.toString: id,customerId,name,status,staffId,total,pages,copies,color,date,response,reviewed,document,receipt,gcash
+        // The reviewed flag (0/1) marks where the admin response ends
+        int reviewed = 11;
+        for (int i = 11; i < n - 3; i++) {
+            if (parts[i].equals("0") || parts[i].equals("1")) {
+                reviewed = i;
+                break;
+            }
+        }
+        return build(parts[0], parseInt(parts[1]), parts[2], parts[3], parseInt(parts[4]), parseDouble(parts[5]),
+                parseInt(parts[6]), parseInt(parts[7]), parseBoolean(parts[8]), parseDate(parts[9]),
+                join(parts, 10, reviewed), parseBoolean(parts[reviewed]), parts[reviewed + 1], parts[reviewed + 2],
+                join(parts, reviewed + 3, n));
+    }
+
+    private static Order build(String id, int customerId, String customerName, String status, int staffId,
+                               double total, int pages, int copies, boolean color, LocalDateTime date,
+                               String adminResponse, boolean reviewed, String documentPath, String receiptPath,
+                               String gcashReceiptPath) {
+        if (id.isEmpty()) return null;
+        Order order = new Order(id, customerId, customerName, status.isEmpty() ? "Pending" : status, staffId, total,
+                pages, copies, color, documentPath, receiptPath, gcashReceiptPath, date);
+        order.setAdminResponse(adminResponse);
+        order.setReviewed(reviewed);
+        return order;
+    }
+
+    private static String join(String[] parts, int from, int to) {
+        if (to - from == 1) return parts[from];
+        StringBuilder sb = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            if (i > from) sb.append(',');
+            sb.append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    // Parses a non-negative or negative decimal int without allocating; anything else is 0
+    private static int parseInt(String s) {
+        int length = s.length();
+        if (length == 0 || length > 10) return 0;
+        int i = 0;
+        boolean negative = s.charAt(0) == '-';
+        if (negative) i++;
+        if (i == length) return 0;
+        long value = 0;
+        for (; i < length; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return 0;
+            value = value * 10 + d;
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE || value < Integer.MIN_VALUE ? 0 : (int) value;
+    }
+
+    private static double parseDouble(String s) {
+        if (s.isEmpty()) return 0.0;
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    private static boolean parseBoolean(String s) {
+        return s.equals("1") || s.equalsIgnoreCase("true");
+    }
+
+    private static boolean looksLikeIsoDate(String s) {
+        return s.length() >= 19 && s.charAt(4) == '-' && s.charAt(10) == 'T';
+    }
+
+    // Accepts "yyyy-MM-dd HH:mm:ss" and ISO-8601 local date-times; anything else means "now"
+    private static LocalDateTime parseDate(String s) {
+        if (s.length() >= 19) {
+            try {
+                if (s.charAt(10) == 'T') {
+                    return LocalDateTime.parse(s, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                }
+                return LocalDateTime.parse(s.substring(0, 19), DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                // fall through
+            }
+        }
+        return LocalDateTime.now();
+    }
+
+    // --- Binary ---
+
+    public static void writeBinary(Order order, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        writeString(out, order.getId());
+        out.writeInt(order.getCustomerId());
+        writeString(out, order.getCustomerName());
+        writeString(out, order.getStatus());
+        out.writeInt(order.getAssignedStaffId());
+        out.writeDouble(order.getTotalAmount());
+        out.writeInt(order.getPageCount());
+        out.writeInt(order.getCopies());
+        out.writeBoolean(order.isColorPrinting());
+        out.writeLong(order.getDateTime().toEpochSecond(java.time.ZoneOffset.UTC));
+        writeString(out, order.getAdminResponse());
+        out.writeBoolean(order.isReviewed());
+        writeString(out, order.getDocumentPath());
+        writeString(out, order.getReceiptPath());
+        writeString(out, order.getGcashReceiptPath());
+    }
+
+    public static Order readBinary(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported order record version: " + version);
+        }
+        String id = readString(in);
+        int customerId = in.readInt();
+        String customerName = readString(in);
+        String status = readString(in);
+        int staffId = in.readInt();
+        double total = in.readDouble();
+        int pages = in.readInt();
+        int copies = in.readInt();
+        boolean color = in.readBoolean();
+        LocalDateTime date = LocalDateTime.ofEpochSecond(in.readLong(), 0, java.time.ZoneOffset.UTC);
+        String adminResponse = readString(in);
+        boolean reviewed = in.readBoolean();
+        String documentPath = readString(in);
+        String receiptPath = readString(in);
+        String gcashReceiptPath = readString(in);
+        return build(id, customerId, customerName, status, staffId, total, pages, copies, color, date,
+                adminResponse, reviewed, documentPath, receiptPath, gcashReceiptPath);
+    }
+
+    /**
+     * Writes a whole collection in binary form: a count, then each order.
+     */
+    public static void writeAllBinary(List<Order> orders, DataOutput out) throws IOException {
+        out.writeInt(orders.size());
+        for (Order order : orders) {
+            writeBinary(order, out);
+        }
+    }
+
+    public static List<Order> readAllBinary(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<Order> orders = new ArrayList<>(Math.max(0, count));
+        for (int i = 0; i < count; i++) {
+            orders.add(readBinary(in));
+        }
+        return orders;
+    }
+
+    // Length-prefixed UTF-8; unlike writeUTF there is no 64 KB limit
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) throw new IOException("Corrupt order record");
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
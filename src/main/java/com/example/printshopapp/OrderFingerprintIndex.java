@@ -0,0 +1,105 @@
+package com.example.printshopapp;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Finds an existing order that duplicates a new one in O(1) on average.
+ * Orders are bucketed by a 64-bit FNV-1a fingerprint of customer name, total, page count,
+ * copies, colour and the document, receipt and GCash paths. Uploads are stored by content hash,
+ * so equal paths mean equal files. A bucket hit is confirmed field by field, so a hash
+ * collision can never reject an order. Status is checked only at lookup, because it changes in place.
+ * Used by OrderRepository, which keeps it in step with the other indexes.
+ */
+public class OrderFingerprintIndex {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<Long, List<Order>> buckets = new HashMap<>();
+    private final Map<String, Long> fingerprintById = new HashMap<>(); // as indexed, for removal
+
+    public void add(Order order) {
+        long fingerprint = fingerprint(order);
+        fingerprintById.put(order.getId(), fingerprint);
+        buckets.computeIfAbsent(fingerprint, k -> new ArrayList<>(1)).add(order);
+    }
+
+    public void remove(Order order) {
+        Long fingerprint = fingerprintById.remove(order.getId());
+        if (fingerprint == null) return;
+        List<Order> bucket = buckets.get(fingerprint);
+        if (bucket != null) {
+            bucket.remove(order);
+            if (bucket.isEmpty()) buckets.remove(fingerprint);
+        }
+    }
+
+    public void clear() {
+        buckets.clear();
+        fingerprintById.clear();
+    }
+
+    /**
+     * Returns a stored order with the same fields and status as order, or null.
+     * With a positive window, only orders dated within that long of order count as duplicates.
+     */
+    public Order findDuplicate(Order order, Duration window) {
+        List<Order> bucket = buckets.get(fingerprint(order));
+        if (bucket == null) return null;
+        for (Order candidate : bucket) {
+            if (sameFields(candidate, order) && Objects.equals(candidate.getStatus(), order.getStatus())
+                    && withinWindow(candidate.getDateTime(), order.getDateTime(), window)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    static long fingerprint(Order order) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, order.getCustomerName());
+        hash = mix(hash, Double.doubleToLongBits(order.getTotalAmount()));
+        hash = mix(hash, order.getPageCount());
+        hash = mix(hash, order.getCopies());
+        hash = mix(hash, order.isColorPrinting() ? 1 : 0);
+        hash = mix(hash, order.getDocumentPath());
+        hash = mix(hash, order.getReceiptPath());
+        hash = mix(hash, order.getGcashReceiptPath());
+        return hash;
+    }
+
+    private static boolean sameFields(Order a, Order b) {
+        return Objects.equals(a.getCustomerName(), b.getCustomerName())
+                && a.getTotalAmount() == b.getTotalAmount()
+                && a.getPageCount() == b.getPageCount()
+                && a.getCopies() == b.getCopies()
+                && a.isColorPrinting() == b.isColorPrinting()
+                && Objects.equals(a.getDocumentPath(), b.getDocumentPath())
+                && Objects.equals(a.getReceiptPath(), b.getReceiptPath())
+                && Objects.equals(a.getGcashReceiptPath(), b.getGcashReceiptPath());
+    }
+
+    private static boolean withinWindow(LocalDateTime a, LocalDateTime b, Duration window) {
+        if (window == null || window.isZero() || window.isNegative()) return true;
+        if (a == null || b == null) return true;
+        return Duration.between(a, b).abs().compareTo(window) <= 0;
+    }
+
+    // A null string mixes in differently from "", matching the null-aware field comparison
+    private static long mix(long hash, String value) {
+        if (value == null) return mix(hash, -1L);
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash, value.length());
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+            value >>>= 8;
+        }
+        return hash;
+    }
+}
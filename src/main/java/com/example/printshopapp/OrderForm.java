@@ -6,7 +6,10 @@ import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 public class OrderForm extends JFrame {
     private JTextField nameField;
@@ -43,9 +46,10 @@ public class OrderForm extends JFrame {
     // --- Price panel refresh support ---
     private JPanel pricePanelWrapper; // holds the price panel for refresh
     private JPanel pricePanel; // the actual price panel
-    private javax.swing.Timer priceRefreshTimer;
+    private int shownPricingVersion;
 
     public void refreshPricePanel() {
+        shownPricingVersion = systemManager.getPricingVersion();
         pricePanelWrapper.removeAll();
         pricePanel = buildPricePanel();
         pricePanelWrapper.add(pricePanel);
@@ -164,9 +168,11 @@ public class OrderForm extends JFrame {
         setLocationRelativeTo(null);
         KaelLib.setBackgroundImage(this, "/com/example/printshopapp/images/background1.png");
 
-        // --- Timer for auto-refresh ---
-        priceRefreshTimer = new javax.swing.Timer(5000, e -> refreshPricePanel());
-        priceRefreshTimer.start();
+        // --- Auto-refresh while visible; stops when the form is disposed ---
+        shownPricingVersion = systemManager.getPricingVersion();
+        RefreshScheduler.register(this, 5000, () -> {
+            if (systemManager.getPricingVersion() != shownPricingVersion) refreshPricePanel();
+        });
     }
 
     private void addPriceRow(JPanel panel, String label, String price) {
@@ -545,16 +551,57 @@ public class OrderForm extends JFrame {
                 sb.append(f.getName()).append(", ");
             }
             printFilesField.setText(sb.length() > 0 ? sb.substring(0, sb.length() - 2) : "");
+            countPrintFilePages();
         }
     }
 
+    // Counts the pages of the chosen files in the background and fills in the page count, which reprices the order
+    private void countPrintFilePages() {
+        File[] chosen = printFiles;
+        systemManager.getPageCounter().countPages(Arrays.asList(chosen)).thenAccept(result -> SwingUtilities.invokeLater(() -> {
+            if (chosen != printFiles) return; // files were chosen again while counting
+            SpinnerNumberModel model = (SpinnerNumberModel) pageCountSpinner.getModel();
+            if (result.getPages() > 0) {
+                int max = ((Number) model.getMaximum()).intValue();
+                pageCountSpinner.setValue(Math.min(result.getPages(), max));
+            }
+            if (result.getUncounted() > 0) {
+                JOptionPane.showMessageDialog(this, "Could not count the pages of " + result.getUncounted()
+                    + " file(s). Please check the number of pages.", "Page Count", JOptionPane.WARNING_MESSAGE);
+            }
+        }));
+    }
+
     private void handleSubmit() {
         if (orderReceiptFile == null || gcashReceiptFile == null || printFiles == null || printFiles.length == 0) {
             JOptionPane.showMessageDialog(this, "Please upload all required files before submitting.");
             return;
         }
+        // Copy the files into the upload store in the background; the order references the stored copies
+        List<File> uploads = new ArrayList<>();
+        uploads.add(orderReceiptFile);
+        uploads.add(gcashReceiptFile);
+        uploads.addAll(Arrays.asList(printFiles));
+        ProgressMonitor monitor = new ProgressMonitor(this, "Uploading files...", null, 0, 100);
+        setEnabled(false);
+        systemManager.getUploadService().ingestWithProgress(uploads, monitor)
+            .whenComplete((paths, error) -> SwingUtilities.invokeLater(() -> {
+                monitor.close();
+                setEnabled(true);
+                if (error instanceof CancellationException) {
+                    return; // cancelled from the progress dialog
+                }
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    JOptionPane.showMessageDialog(this, "Failed to upload files: " + cause.getMessage());
+                    return;
+                }
+                submitOrder(paths.get(0), paths.get(1), paths.subList(2, paths.size()).toArray(new String[0]));
+            }));
+    }
+
+    private void submitOrder(String orderReceiptPath, String gcashReceiptPath, String[] printFilePaths) {
         try {
-            String[] printFilePaths = Arrays.stream(printFiles).map(File::getAbsolutePath).toArray(String[]::new);
             int pageCount = (Integer) pageCountSpinner.getValue();
             int copies = (Integer) copiesSpinner.getValue();
             boolean isColorPrinting = colorPrintingCheckbox.isSelected();
@@ -562,32 +609,26 @@ public class OrderForm extends JFrame {
                     nameField.getText().trim(),
                     emailField.getText().trim(),
                     phoneField.getText().trim(),
-                    orderReceiptFile != null ? orderReceiptFile.getAbsolutePath() : "",
-                    gcashReceiptFile != null ? gcashReceiptFile.getAbsolutePath() : "",
+                    orderReceiptPath,
+                    gcashReceiptPath,
                     printFilePaths,
                     totalCost,
                     pageCount,
                     copies,
                     isColorPrinting
             );
-            java.nio.file.Files.write(
-                java.nio.file.Paths.get("src/main/resources/com/example/printshopapp/Order.txt"),
-                (orderLine + System.lineSeparator()).getBytes(),
-                java.nio.file.StandardOpenOption.APPEND
-            );
-            // Write notification for this order
-            String notificationMsg = String.format("%s|Order placed|Your order has been placed and is pending. Order details: %s, %d pages, %d copies, Total: ₱%.2f|%s",
-                java.time.LocalDateTime.now().toString(),
-                nameField.getText().trim(),
+            systemManager.submitOrderLine(orderLine);
+            // Notify the customer through the indexed notification store so it shows up in their inbox
+            User customer = systemManager.getCurrentUser();
+            String notificationMsg = String.format("Order placed: Your order has been placed and is pending. %d pages, %d copies, Total: ₱%.2f",
                 pageCount,
                 copies,
-                totalCost,
-                emailField.getText().trim()
+                totalCost
             );
-            java.nio.file.Files.write(
-                java.nio.file.Paths.get("src/main/resources/com/example/printshopapp/Ordernotification.txt"),
-                (notificationMsg + System.lineSeparator()).getBytes(),
-                java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.APPEND
+            systemManager.addOrderNotification(
+                customer != null ? customer.getId() : 0,
+                customer != null ? customer.getName() : nameField.getText().trim(),
+                notificationMsg
             );
             JOptionPane.showMessageDialog(this, "Order submitted successfully!");
             // After submitting, return to the previous window (if any)
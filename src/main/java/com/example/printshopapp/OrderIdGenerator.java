@@ -0,0 +1,85 @@
+package com.example.printshopapp;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Issues unique order IDs that sort in creation order.
+ * An ID is 9 base62 digits of (milliseconds since 2024-01-01 << 12 | sequence) followed by a
+ * 2-digit node ID, e.g. "1ed1ha2WR" + "07". The time/sequence value comes from one AtomicLong that
+ * only moves forward via compare-and-set, so concurrent callers never get the same value, even if
+ * the clock steps back or more than 4096 IDs are requested in one millisecond. The node ID keeps
+ * IDs apart when several installs write to the same order file; set it with -Dprintshop.nodeId.
+ */
+public class OrderIdGenerator {
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int SEQUENCE_BITS = 12;
+    private static final int VALUE_DIGITS = 9; // 62^9 > 2^53, enough for ~69 years of milliseconds
+    private static final int NODE_DIGITS = 2;
+    private static final int NODE_COUNT = 62 * 62;
+
+    private final AtomicLong last = new AtomicLong();
+    private final int nodeId;
+
+    public OrderIdGenerator() {
+        this(defaultNodeId());
+    }
+
+    public OrderIdGenerator(int nodeId) {
+        this.nodeId = Math.floorMod(nodeId, NODE_COUNT);
+    }
+
+    /** Returns a new ID. */
+    public String next() {
+        long value;
+        while (true) {
+            long previous = last.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            value = Math.max(previous + 1, now);
+            if (last.compareAndSet(previous, value)) break;
+        }
+        char[] id = new char[VALUE_DIGITS + NODE_DIGITS];
+        encode(value, id, 0, VALUE_DIGITS);
+        encode(nodeId, id, VALUE_DIGITS, NODE_DIGITS);
+        return new String(id);
+    }
+
+    /**
+     * Returns a new ID for which taken is false, e.g. orders::containsId. Only IDs written by
+     * another node with the same node ID, or imported by hand, can ever be skipped.
+     */
+    public String next(Predicate<String> taken) {
+        String id = next();
+        while (taken.test(id)) {
+            id = next();
+        }
+        return id;
+    }
+
+    // Fixed-width, most significant digit first, so string order matches numeric order
+    private static void encode(long value, char[] out, int offset, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            out[i] = DIGITS[(int) (value % 62)];
+            value /= 62;
+        }
+    }
+
+    private static int defaultNodeId() {
+        String configured = System.getProperty("printshop.nodeId");
+        if (configured != null) {
+            try {
+                return Integer.parseInt(configured.trim());
+            } catch (NumberFormatException ignored) {
+                // Fall back to a derived node ID
+            }
+        }
+        String host;
+        try {
+            host = java.net.InetAddress.getLocalHost().getHostName();
+        } catch (java.io.IOException e) {
+            host = "";
+        }
+        return (host + "/" + ProcessHandle.current().pid()).hashCode();
+    }
+}
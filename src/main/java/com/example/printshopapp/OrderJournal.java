@@ -0,0 +1,183 @@
+package com.example.printshopapp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.logging.Logger;
+
+/**
+ * Append-only write-ahead journal for order changes.
+ * Order.txt is the snapshot; each mutation since the last snapshot is appended here as one
+ * small delta record and fsync'd. Startup rebuilds state as snapshot plus replay.
+ *
+ * Record format (tab separated, one per line):
+ *   A  orderLine                              - order added
+ *   S  orderId  status  reviewed  response    - status / review change
+ *   T  orderId  staffId                       - staff assignment
+ */
+public class OrderJournal {
+    private static final Logger LOGGER = Logger.getLogger(OrderJournal.class.getName());
+
+    private final Path path;
+    private FileChannel channel;
+    private int recordCount = 0; // records written since the last snapshot
+
+    public OrderJournal(String filePath) {
+        this.path = Paths.get(filePath);
+    }
+
+    public void appendAdded(Order order) {
+        append("A\t" + escape(order.toString()));
+    }
+
+    public void appendStatus(Order order) {
+        append("S\t" + escape(order.getId()) + "\t" + escape(order.getStatus()) + "\t"
+                + (order.isReviewed() ? 1 : 0) + "\t" + escape(order.getAdminResponse()));
+    }
+
+    public void appendAssignment(Order order) {
+        append("T\t" + escape(order.getId()) + "\t" + order.getAssignedStaffId());
+    }
+
+    /**
+     * Applies every journal record on top of the given snapshot.
+     * Records are idempotent, so replaying a journal that was already folded into the snapshot is harmless.
+     */
+    public int replay(OrderRepository orders) {
+        recordCount = 0;
+        if (!Files.exists(path)) return 0;
+        int applied = 0;
+        orders.beginBatch(); // one snapshot for all replayed adds
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                recordCount++;
+                if (apply(orders, line.split("\t", -1))) {
+                    applied++;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Error replaying order journal: " + e.getMessage());
+        } finally {
+            orders.endBatch();
+        }
+        return applied;
+    }
+
+    private boolean apply(OrderRepository orders, String[] parts) {
+        try {
+            switch (parts[0]) {
+                case "A": {
+                    Order order = Order.fromString(unescape(parts[1]));
+                    return order != null && orders.add(order);
+                }
+                case "S": {
+                    Order order = orders.findById(unescape(parts[1]));
+                    if (order == null) return false;
+                    orders.setStatus(order, unescape(parts[2]));
+                    order.setReviewed("1".equals(parts[3]));
+                    order.setAdminResponse(unescape(parts[4]));
+                    return true;
+                }
+                case "T": {
+                    Order order = orders.findById(unescape(parts[1]));
+                    if (order == null) return false;
+                    orders.setAssignedStaffId(order, Integer.parseInt(parts[2]));
+                    return true;
+                }
+                default:
+                    LOGGER.warning("Skipped unknown order journal record: " + parts[0]);
+                    return false;
+            }
+        } catch (RuntimeException e) {
+            // Torn or malformed record (e.g. crash mid-append); skip it
+            LOGGER.warning("Skipped invalid order journal record: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Number of records written since the last snapshot; used to decide when to compact
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Discards all records. Call only after a complete snapshot has been written.
+     */
+    public synchronized void truncate() {
+        try {
+            if (channel != null) {
+                channel.truncate(0);
+                channel.force(true);
+            } else if (Files.exists(path)) {
+                Files.write(path, new byte[0]);
+            }
+            recordCount = 0;
+        } catch (IOException e) {
+            LOGGER.warning("Failed to truncate order journal: " + e.getMessage());
+        }
+    }
+
+    public synchronized void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close order journal: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private synchronized void append(String record) {
+        try {
+            if (channel == null) {
+                Files.createDirectories(path.getParent());
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            recordCount++;
+        } catch (IOException e) {
+            LOGGER.warning("Failed to append order journal record: " + e.getMessage());
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) return "";
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = c == '\\' ? "\\\\" : c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : null;
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) sb.append(replacement);
+                else sb.append(c);
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) return value;
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.printshopapp;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * In-memory order store with hash indexes by order ID, status, customer ID and assigned staff ID.
+ * All status and staff changes must go through this class so the indexes stay consistent.
+ * Adding or removing orders publishes a new immutable snapshot of the whole list, which readers share.
+ * Between beginBatch() and endBatch() publishing is deferred to one snapshot for the whole batch.
+ */
+public class OrderRepository {
+    private final Map<String, Order> byId = new LinkedHashMap<>(); // keeps file/insertion order
+    private final Map<String, Set<Order>> byStatus = new HashMap<>();
+    private final Map<Integer, Set<Order>> byCustomerId = new HashMap<>();
+    private final Map<Integer, Set<Order>> byStaffId = new HashMap<>();
+    private final OrderFingerprintIndex fingerprints = new OrderFingerprintIndex();
+    private volatile Snapshot<Order> snapshot = Snapshot.empty();
+    private int batchDepth;
+    private boolean publishPending;
+
+    /**
+     * Adds an order and indexes it. Returns false if an order with the same ID is already stored.
+     */
+    public boolean add(Order order) {
+        if (!addIndexed(order)) return false;
+        publish();
+        return true;
+    }
+
+    public Order remove(String orderId) {
+        Order order = byId.remove(orderId);
+        if (order != null) {
+            unindex(byStatus, order.getStatus(), order);
+            unindex(byCustomerId, order.getCustomerId(), order);
+            unindex(byStaffId, order.getAssignedStaffId(), order);
+            fingerprints.remove(order);
+            publish();
+        }
+        return order;
+    }
+
+    public void clear() {
+        byId.clear();
+        byStatus.clear();
+        byCustomerId.clear();
+        byStaffId.clear();
+        fingerprints.clear();
+        publish();
+    }
+
+    // Replaces the whole contents, e.g. after reloading Order.txt
+    public void replaceAll(Collection<Order> orders) {
+        byId.clear();
+        byStatus.clear();
+        byCustomerId.clear();
+        byStaffId.clear();
+        fingerprints.clear();
+        for (Order order : orders) {
+            addIndexed(order);
+        }
+        publish(); // one new version for the whole reload
+    }
+
+    // Defers publishing, e.g. while replaying the journal; always pair with endBatch() in a finally
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    public void endBatch() {
+        if (batchDepth > 0 && --batchDepth == 0 && publishPending) {
+            publish();
+        }
+    }
+
+    public void setStatus(Order order, String status) {
+        if (Objects.equals(order.getStatus(), status)) return;
+        unindex(byStatus, order.getStatus(), order);
+        order.setStatus(status);
+        index(byStatus, status, order);
+    }
+
+    public void setAssignedStaffId(Order order, int staffId) {
+        if (order.getAssignedStaffId() == staffId) return;
+        unindex(byStaffId, order.getAssignedStaffId(), order);
+        order.setAssignedStaffId(staffId);
+        index(byStaffId, staffId, order);
+    }
+
+    public Order findById(String orderId) {
+        return orderId == null ? null : byId.get(orderId);
+    }
+
+    public boolean containsId(String orderId) {
+        return byId.containsKey(orderId);
+    }
+
+    public List<Order> findByStatus(String status) {
+        return copyOf(byStatus.get(status));
+    }
+
+    public List<Order> findByCustomerId(int customerId) {
+        return copyOf(byCustomerId.get(customerId));
+    }
+
+    public List<Order> findByStaffId(int staffId) {
+        return copyOf(byStaffId.get(staffId));
+    }
+
+    // Stored order with the same customer, amounts, files and status, optionally within a time window
+    public Order findDuplicate(Order order, Duration window) {
+        return fingerprints.findDuplicate(order, window);
+    }
+
+    public boolean hasOrdersForStaff(int staffId) {
+        Set<Order> assigned = byStaffId.get(staffId);
+        return assigned != null && !assigned.isEmpty();
+    }
+
+    // Current snapshot of all orders in insertion order; shared, so no copy is made
+    public Snapshot<Order> snapshot() {
+        return snapshot;
+    }
+
+    public Collection<Order> values() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private boolean addIndexed(Order order) {
+        if (order == null || byId.containsKey(order.getId())) return false;
+        byId.put(order.getId(), order);
+        index(byStatus, order.getStatus(), order);
+        index(byCustomerId, order.getCustomerId(), order);
+        index(byStaffId, order.getAssignedStaffId(), order);
+        fingerprints.add(order);
+        return true;
+    }
+
+    // Status and staff changes keep the same orders, so only membership changes publish
+    private void publish() {
+        if (batchDepth > 0) {
+            publishPending = true;
+            return;
+        }
+        publishPending = false;
+        snapshot = snapshot.next(byId.values());
+    }
+
+    private static <K> void index(Map<K, Set<Order>> index, K key, Order order) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(order);
+    }
+
+    private static <K> void unindex(Map<K, Set<Order>> index, K key, Order order) {
+        Set<Order> bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(order);
+            if (bucket.isEmpty()) index.remove(key);
+        }
+    }
+
+    private static List<Order> copyOf(Set<Order> bucket) {
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+}
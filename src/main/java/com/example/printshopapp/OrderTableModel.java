@@ -0,0 +1,216 @@
+package com.example.printshopapp;
+
+import javax.swing.RowFilter;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Table model that reads its cells straight from Order objects instead of copying them into row arrays.
+ * Rows are updated one at a time from order change events; sorting and filtering go through TableRowSorter.
+ */
+public class OrderTableModel extends AbstractTableModel {
+
+    /**
+     * One table column: header, cell type and how to read the value from an order.
+     * An optional comparator sorts on the order itself, e.g. by amount rather than by the formatted text.
+     */
+    public static class Column {
+        private final String name;
+        private final Class<?> type;
+        private final Function<Order, Object> value;
+        private final Comparator<Order> sortOrder;
+
+        public Column(String name, Class<?> type, Function<Order, Object> value) {
+            this(name, type, value, null);
+        }
+
+        public Column(String name, Class<?> type, Function<Order, Object> value, Comparator<Order> sortOrder) {
+            this.name = name;
+            this.type = type;
+            this.value = value;
+            this.sortOrder = sortOrder;
+        }
+    }
+
+    // Shared column definitions
+    public static final Column ORDER_ID = new Column("Order ID", String.class, Order::getId);
+    public static final Column CUSTOMER_NAME = new Column("Customer Name", String.class, Order::getCustomerName);
+    public static final Column STATUS = new Column("Status", String.class, Order::getStatus);
+    public static final Column DATE = new Column("Date", String.class, Order::getDate);
+    public static final Column TYPE = new Column("Type", String.class, o -> o.isColorPrinting() ? "Color" : "B&W");
+    public static final Column PAGES = new Column("Pages", Integer.class, Order::getPageCount);
+    public static final Column COPIES = new Column("Copies", Integer.class, Order::getCopies);
+
+    public static Column totalAmount(String name) {
+        return new Column(name, String.class, Order::getFormattedTotalAmount,
+                Comparator.comparingDouble(Order::getTotalAmount));
+    }
+
+    private final Column[] columns;
+    private final int editableColumn;
+    private final Object[] placeholderRow; // shown when there are no orders; null for an empty table
+    private final List<Order> rows = new ArrayList<>();
+    private final Map<String, Integer> rowIndex = new HashMap<>(); // orderId -> row
+
+    public OrderTableModel(Column[] columns, int editableColumn, Object[] placeholderRow) {
+        this.columns = columns;
+        this.editableColumn = editableColumn;
+        this.placeholderRow = placeholderRow;
+    }
+
+    // Replaces all rows, e.g. on first load or after the orders were reloaded from file
+    public void setOrders(Collection<Order> orders) {
+        rows.clear();
+        rowIndex.clear();
+        for (Order order : orders) {
+            rowIndex.put(order.getId(), rows.size());
+            rows.add(order);
+        }
+        fireTableDataChanged();
+    }
+
+    // Inserts the order, or repaints its row if it is already shown
+    public void upsert(Order order) {
+        Integer row = rowIndex.get(order.getId());
+        if (row != null) {
+            rows.set(row, order);
+            fireTableRowsUpdated(row, row);
+            return;
+        }
+        boolean wasShowingPlaceholder = showsPlaceholder();
+        row = rows.size();
+        rowIndex.put(order.getId(), row);
+        rows.add(order);
+        if (wasShowingPlaceholder) {
+            fireTableRowsUpdated(0, 0); // the placeholder row becomes the first order
+        } else {
+            fireTableRowsInserted(row, row);
+        }
+    }
+
+    public boolean remove(String orderId) {
+        Integer row = rowIndex.remove(orderId);
+        if (row == null) return false;
+        rows.remove((int) row);
+        // Shift the index of every row below the removed one
+        for (int i = row; i < rows.size(); i++) {
+            rowIndex.put(rows.get(i).getId(), i);
+        }
+        if (showsPlaceholder()) {
+            fireTableRowsUpdated(0, 0); // the last order becomes the placeholder row
+        } else {
+            fireTableRowsDeleted(row, row);
+        }
+        return true;
+    }
+
+    public boolean contains(String orderId) {
+        return rowIndex.containsKey(orderId);
+    }
+
+    /**
+     * Returns the order at the given model row, or null for the placeholder row.
+     * Convert view rows first with JTable.convertRowIndexToModel.
+     */
+    public Order getOrderAt(int modelRow) {
+        return modelRow >= 0 && modelRow < rows.size() ? rows.get(modelRow) : null;
+    }
+
+    private boolean showsPlaceholder() {
+        return rows.isEmpty() && placeholderRow != null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return showsPlaceholder() ? 1 : rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column].name;
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columns[column].type;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column == editableColumn;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (showsPlaceholder()) {
+            return placeholderRow[column];
+        }
+        return columns[column].value.apply(rows.get(row));
+    }
+
+    /**
+     * Creates a sorter for this model. Columns with a comparator sort on the underlying order
+     * (e.g. the amount) while filters still match the displayed text.
+     */
+    public TableRowSorter<OrderTableModel> createRowSorter() {
+        return new OrderRowSorter(this);
+    }
+
+    private static class OrderRowSorter extends TableRowSorter<OrderTableModel> {
+        OrderRowSorter(OrderTableModel model) {
+            super(model);
+            // Hand the order itself to comparators of columns that sort by order, not by cell text
+            setModelWrapper(new ModelWrapper<OrderTableModel, Integer>() {
+                @Override
+                public OrderTableModel getModel() { return model; }
+                @Override
+                public int getColumnCount() { return model.getColumnCount(); }
+                @Override
+                public int getRowCount() { return model.getRowCount(); }
+                @Override
+                public Object getValueAt(int row, int column) {
+                    Order order = model.columns[column].sortOrder != null ? model.getOrderAt(row) : null;
+                    return order != null ? order : model.getValueAt(row, column);
+                }
+                @Override
+                public String getStringValueAt(int row, int column) {
+                    Object value = model.getValueAt(row, column);
+                    return value == null ? "" : value.toString();
+                }
+                @Override
+                public Integer getIdentifier(int row) { return row; }
+            });
+            for (int i = 0; i < model.columns.length; i++) {
+                if (model.columns[i].sortOrder != null) {
+                    setComparator(i, model.columns[i].sortOrder);
+                }
+            }
+        }
+
+        @Override
+        protected boolean useToString(int column) {
+            return getModel().columns[column].sortOrder == null && super.useToString(column);
+        }
+    }
+
+    /**
+     * Matches rows whose status equals the given value (case-insensitive); null or "All" matches everything.
+     */
+    public static RowFilter<OrderTableModel, Integer> statusFilter(String status) {
+        if (status == null || "All".equals(status)) return null;
+        return new RowFilter<OrderTableModel, Integer>() {
+            @Override
+            public boolean include(Entry<? extends OrderTableModel, ? extends Integer> entry) {
+                Order order = entry.getModel().getOrderAt(entry.getIdentifier());
+                return order != null && status.equalsIgnoreCase(order.getStatus());
+            }
+        };
+    }
+}
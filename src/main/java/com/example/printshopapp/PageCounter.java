@@ -0,0 +1,339 @@
+package com.example.printshopapp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Counts the printable pages of chosen print files in the background.
+ * PDFs are read once, front to back, by a small tokenizer that only tracks dictionaries:
+ * the page count is the /Count of the root /Type /Pages node (the one without /Parent).
+ * Compressed object streams (/Type /ObjStm, /FlateDecode) are inflated and scanned the same way,
+ * since newer PDFs keep the page tree there. Images count as one page. Files are counted in
+ * parallel and results are cached by content hash, so re-choosing a file is free.
+ */
+public class PageCounter {
+    private static final Logger LOGGER = Logger.getLogger(PageCounter.class.getName());
+    public static final int UNKNOWN = -1;
+    private static final int MAX_OBJECT_STREAM = 16 * 1024 * 1024; // compressed bytes buffered per object stream
+
+    /** Pages found across a set of files; uncounted is the number of files that could not be counted. */
+    public static class Result {
+        private final int pages;
+        private final int uncounted;
+
+        public Result(int pages, int uncounted) {
+            this.pages = pages;
+            this.uncounted = uncounted;
+        }
+
+        public int getPages() { return pages; }
+        public int getUncounted() { return uncounted; }
+    }
+
+    private final Map<String, Integer> countsByHash = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public PageCounter() {
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "page-counter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Counts every file in parallel and completes with the total. Never completes exceptionally;
+     * files that cannot be read or are not PDFs or images are reported as uncounted.
+     */
+    public CompletableFuture<Result> countPages(List<File> files) {
+        CompletableFuture<?>[] counts = new CompletableFuture<?>[files.size()];
+        for (int i = 0; i < counts.length; i++) {
+            File file = files.get(i);
+            counts[i] = CompletableFuture.supplyAsync(() -> countPages(file), executor);
+        }
+        return CompletableFuture.allOf(counts).thenApply(unused -> {
+            int pages = 0, uncounted = 0;
+            for (CompletableFuture<?> count : counts) {
+                int n = (Integer) count.join();
+                if (n == UNKNOWN) {
+                    uncounted++;
+                } else {
+                    pages += n;
+                }
+            }
+            return new Result(pages, uncounted);
+        });
+    }
+
+    // Page count of one file, or UNKNOWN
+    public int countPages(File file) {
+        String name = file.getName().toLowerCase();
+        if (name.matches(".*\\.(png|jpe?g|gif|bmp)$")) {
+            return 1;
+        }
+        if (!name.endsWith(".pdf")) {
+            return UNKNOWN;
+        }
+        try {
+            String hash = UploadService.contentHash(file.toPath());
+            Integer cached = countsByHash.get(hash);
+            if (cached != null) return cached;
+            int pages;
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                pages = new PdfScanner(in).countPages();
+            }
+            countsByHash.put(hash, pages);
+            return pages;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to count pages of " + file.getName() + ": " + e.getMessage());
+            return UNKNOWN;
+        }
+    }
+
+    // What the scanner remembers about one << ... >> dictionary
+    private static class Dict {
+        String type;
+        boolean hasParent;
+        boolean flate;
+        int count = UNKNOWN;
+        int tokensSinceCount = -1;
+        String lastToken = "";
+    }
+
+    /**
+     * Single-pass tokenizer over PDF bytes. Strings, comments and ordinary streams are skipped
+     * without being decoded; only dictionary keys, names and numbers are looked at.
+     */
+    private static class PdfScanner {
+        private static final byte[] END_STREAM = "endstream".getBytes();
+        private static final int[] END_STREAM_FAILURE = failureTable(END_STREAM);
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[64 * 1024];
+        private int position = 0, limit = 0;
+        private int pushedBack = -1;
+        private final Deque<Dict> open = new ArrayDeque<>();
+        private Dict lastClosed; // most recent top-level dictionary, i.e. the one a stream belongs to
+        private int rootCount = UNKNOWN;
+        private int pageDicts = 0;
+
+        PdfScanner(InputStream in) {
+            this.in = in;
+        }
+
+        // Root /Count if found (the last one wins, as incremental updates append newer versions), else leaf pages seen
+        int countPages() throws IOException {
+            scan();
+            if (rootCount != UNKNOWN) return rootCount;
+            return pageDicts > 0 ? pageDicts : UNKNOWN;
+        }
+
+        private void scan() throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                switch (c) {
+                    case '%':
+                        while ((c = read()) != -1 && c != '\n' && c != '\r') { }
+                        break;
+                    case '(':
+                        skipLiteralString();
+                        break;
+                    case '<':
+                        c = read();
+                        if (c == '<') {
+                            open.push(new Dict());
+                        } else {
+                            while (c != -1 && c != '>') c = read(); // hex string
+                        }
+                        break;
+                    case '>':
+                        c = read();
+                        if (c == '>') {
+                            closeDict();
+                        } else {
+                            unread(c);
+                        }
+                        break;
+                    case '/':
+                        token("/" + readWord());
+                        break;
+                    case '[':
+                    case ']':
+                    case '{':
+                    case '}':
+                        token(String.valueOf((char) c));
+                        break;
+                    default:
+                        if (isWhitespace(c)) break;
+                        unread(c);
+                        String word = readWord();
+                        if (word.isEmpty()) {
+                            read(); // stray delimiter
+                        } else if (word.equals("stream")) {
+                            stream();
+                        } else {
+                            token(word);
+                        }
+                }
+            }
+        }
+
+        private void token(String token) {
+            Dict dict = open.peek();
+            if (dict == null) return;
+            if (dict.tokensSinceCount >= 0) {
+                dict.tokensSinceCount++;
+                if (dict.tokensSinceCount == 2 && token.equals("R")) {
+                    dict.count = UNKNOWN; // "/Count 12 0 R" is a reference, not a count
+                }
+            }
+            if (dict.lastToken.equals("/Type")) {
+                dict.type = token;
+            } else if (dict.lastToken.equals("/Count")) {
+                dict.count = parseCount(token);
+                dict.tokensSinceCount = 0;
+            }
+            if (token.equals("/Parent")) dict.hasParent = true;
+            if (token.equals("/FlateDecode")) dict.flate = true;
+            dict.lastToken = token;
+        }
+
+        private static int parseCount(String token) {
+            try {
+                return Integer.parseInt(token);
+            } catch (NumberFormatException e) {
+                return UNKNOWN;
+            }
+        }
+
+        private void closeDict() {
+            Dict dict = open.poll();
+            if (dict == null) return;
+            if ("/Pages".equals(dict.type) && !dict.hasParent && dict.count >= 0) {
+                rootCount = dict.count;
+            } else if ("/Page".equals(dict.type)) {
+                pageDicts++;
+            }
+            if (open.isEmpty()) lastClosed = dict;
+        }
+
+        // Object streams are inflated and scanned; every other stream is skipped up to "endstream"
+        private void stream() throws IOException {
+            int c = read();
+            if (c == '\r') {
+                c = read();
+                if (c != '\n') unread(c);
+            } else if (c != '\n') {
+                unread(c);
+            }
+            Dict owner = lastClosed;
+            boolean objectStream = owner != null && "/ObjStm".equals(owner.type) && owner.flate;
+            ByteArrayOutputStream data = objectStream ? new ByteArrayOutputStream() : null;
+            int matched = 0;
+            while ((c = read()) != -1) {
+                while (matched > 0 && c != END_STREAM[matched]) matched = END_STREAM_FAILURE[matched - 1];
+                if (c == END_STREAM[matched]) matched++;
+                if (data != null) {
+                    data.write(c);
+                    if (data.size() > MAX_OBJECT_STREAM) data = null; // too large to buffer; skip it
+                }
+                if (matched == END_STREAM.length) break;
+            }
+            if (data != null) {
+                byte[] bytes = data.toByteArray();
+                int length = Math.max(0, bytes.length - END_STREAM.length);
+                PdfScanner inner = new PdfScanner(new InflaterInputStream(new ByteArrayInputStream(bytes, 0, length)));
+                try {
+                    inner.scan();
+                } catch (IOException e) {
+                    // damaged or encrypted object stream; keep what the outer scan finds
+                }
+                if (inner.rootCount != UNKNOWN) rootCount = inner.rootCount;
+                pageDicts += inner.pageDicts;
+            }
+        }
+
+        private void skipLiteralString() throws IOException {
+            int depth = 1, c;
+            while (depth > 0 && (c = read()) != -1) {
+                if (c == '\\') {
+                    read();
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                }
+            }
+        }
+
+        private String readWord() throws IOException {
+            StringBuilder word = new StringBuilder();
+            int c;
+            while ((c = read()) != -1) {
+                if (isWhitespace(c) || isDelimiter(c)) {
+                    unread(c);
+                    break;
+                }
+                word.append((char) c);
+            }
+            return word.toString();
+        }
+
+        private static boolean isWhitespace(int c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0;
+        }
+
+        private static boolean isDelimiter(int c) {
+            return c == '(' || c == ')' || c == '<' || c == '>' || c == '[' || c == ']'
+                    || c == '{' || c == '}' || c == '/' || c == '%';
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -1) {
+                int c = pushedBack;
+                pushedBack = -1;
+                return c;
+            }
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        private void unread(int c) {
+            if (c != -1) pushedBack = c;
+        }
+
+        private static int[] failureTable(byte[] pattern) {
+            int[] failure = new int[pattern.length];
+            for (int i = 1, k = 0; i < pattern.length; i++) {
+                while (k > 0 && pattern[i] != pattern[k]) k = failure[k - 1];
+                if (pattern[i] == pattern[k]) k++;
+                failure[i] = k;
+            }
+            return failure;
+        }
+    }
+}
@@ -148,32 +148,9 @@ public class PaymentForm extends JFrame {
         specificPanel.setVisible(selected.equals("Specific Amount"));
 
         try {
-            // Build the QR code path based on selection
-            String qrPath = selected.equals("Specific Amount") ?
-                "/com/example/printshopapp/images/qrcode.jpg" :
-                "/com/example/printshopapp/images/" + selected + "qrcode.jpg";
-
-            // Get the QR code image from resources
-            java.net.URL imageUrl = getClass().getResource(qrPath);
-            if (imageUrl == null) {
-                throw new Exception("QR code image not found: " + qrPath);
-            }
-
-            ImageIcon qrCode = new ImageIcon(imageUrl);
-            Image image = qrCode.getImage();
-
-            if (image != null) {
-                // Scale the image while maintaining aspect ratio
-                double scale = Math.min(250.0 / image.getWidth(null), 250.0 / image.getHeight(null));
-                int width = (int) (image.getWidth(null) * scale);
-                int height = (int) (image.getHeight(null) * scale);
-
-                Image scaledImage = image.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                qrCodeLabel.setIcon(new ImageIcon(scaledImage));
-                qrCodeLabel.setText(null); // Clear any error text
-            } else {
-                throw new Exception("Failed to load QR code image");
-            }
+            // Decoded and scaled once at startup; switching amounts just swaps the icon
+            qrCodeLabel.setIcon(QrCodeCache.get(selected));
+            qrCodeLabel.setText(null); // Clear any error text
         } catch (Exception e) {
             qrCodeLabel.setIcon(null);
             qrCodeLabel.setText("QR Code not available");
@@ -12,11 +12,20 @@ public class PrintShopApp {
         } catch (Exception e) {
         }
 
-        // Run the application on the Event Dispatch Thread
+        QrCodeCache.preload();
+
+        // Build and show the splash on the Event Dispatch Thread, then load the stores in the background
         SwingUtilities.invokeLater(() -> {
-            SystemManager systemManager = new SystemManager();
-            LoginPage loginPage = new LoginPage(systemManager);
-            loginPage.setVisible(true);
+            SplashWindow splash = new SplashWindow(SystemManager.STARTUP_LOAD_STEPS);
+            splash.setVisible(true);
+            SystemManager systemManager = SystemManager.loadInBackground(splash::setProgress);
+
+            // Log in as soon as users are ready; orders keep loading behind the login page
+            systemManager.whenUsersLoaded(() -> {
+                splash.dispose();
+                LoginPage loginPage = new LoginPage(systemManager);
+                loginPage.setVisible(true);
+            });
         });
     }
 }
@@ -0,0 +1,104 @@
+package com.example.printshopapp;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * GCash QR codes for each payment amount, decoded and scaled once per process.
+ * preload() starts decoding every variant in the background at startup, so switching amounts
+ * in PaymentForm only swaps an icon that is already the right size.
+ */
+public class QrCodeCache {
+    private static final Logger LOGGER = Logger.getLogger(QrCodeCache.class.getName());
+    public static final String SPECIFIC_AMOUNT = "Specific Amount";
+    public static final String[] AMOUNTS = {"50", "100", "150", "500", SPECIFIC_AMOUNT};
+    private static final int SIZE = 250;
+
+    private static final Map<String, CompletableFuture<ImageIcon>> icons = new ConcurrentHashMap<>();
+
+    private QrCodeCache() {
+    }
+
+    // Starts decoding all variants without waiting for them
+    public static void preload() {
+        for (String amount : AMOUNTS) {
+            load(amount);
+        }
+    }
+
+    /**
+     * Returns the QR code for the amount, scaled to fit 250x250. Waits if it is still being decoded.
+     * Throws IllegalStateException if the image is missing or cannot be decoded.
+     */
+    public static ImageIcon get(String amount) {
+        try {
+            return load(amount).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static CompletableFuture<ImageIcon> load(String amount) {
+        CompletableFuture<ImageIcon> icon = icons.computeIfAbsent(amount,
+                key -> CompletableFuture.supplyAsync(() -> new ImageIcon(decode(resourcePath(key)))));
+        if (icon.isCompletedExceptionally()) {
+            // Let a later selection retry instead of caching the failure forever
+            icons.remove(amount, icon);
+        }
+        return icon;
+    }
+
+    private static String resourcePath(String amount) {
+        return SPECIFIC_AMOUNT.equals(amount)
+                ? "/com/example/printshopapp/images/qrcode.jpg"
+                : "/com/example/printshopapp/images/" + amount + "qrcode.jpg";
+    }
+
+    private static BufferedImage decode(String path) {
+        URL url = QrCodeCache.class.getResource(path);
+        if (url == null) {
+            throw new IllegalStateException("QR code image not found: " + path);
+        }
+        try {
+            BufferedImage source = ImageIO.read(url);
+            if (source == null) {
+                throw new IllegalStateException("Failed to load QR code image: " + path);
+            }
+            return scaleToFit(source, SIZE);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read QR code " + path + ": " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Halves the image in steps before the last bilinear pass, so the QR modules stay sharp
+    private static BufferedImage scaleToFit(BufferedImage source, int size) {
+        double scale = Math.min((double) size / source.getWidth(), (double) size / source.getHeight());
+        int targetWidth = Math.max(1, (int) (source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) (source.getHeight() * scale));
+        BufferedImage current = source;
+        int width = source.getWidth(), height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.printshopapp;
+
+import javax.swing.Timer;
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One shared Swing timer for periodic window refreshes.
+ * A registered task runs only while its window is showing and not minimized; ticks missed while
+ * it was hidden are coalesced into a single run when the window comes back. Registrations are
+ * dropped when the window is disposed, and the timer stops when nothing is registered.
+ * All methods must be called on the EDT.
+ */
+public class RefreshScheduler {
+    private static final int TICK_MILLIS = 1000;
+
+    private static final List<Registration> registrations = new ArrayList<>();
+    private static final Timer timer = new Timer(TICK_MILLIS, e -> tick());
+
+    /** Handle returned by register(); cancel() stops the task early. */
+    public static final class Registration {
+        private final Window window;
+        private final long periodMillis;
+        private final Runnable task;
+        private final WindowAdapter windowListener;
+        private long nextRun;
+
+        private Registration(Window window, long periodMillis, Runnable task) {
+            this.window = window;
+            this.periodMillis = periodMillis;
+            this.task = task;
+            this.nextRun = System.currentTimeMillis() + periodMillis;
+            this.windowListener = new WindowAdapter() {
+                @Override
+                public void windowClosed(WindowEvent e) {
+                    cancel();
+                }
+
+                @Override
+                public void windowDeiconified(WindowEvent e) {
+                    runIfDue(System.currentTimeMillis());
+                }
+            };
+        }
+
+        public void cancel() {
+            window.removeWindowListener(windowListener);
+            registrations.remove(this);
+            if (registrations.isEmpty()) timer.stop();
+        }
+
+        private boolean isVisible() {
+            if (!window.isShowing()) return false;
+            return !(window instanceof Frame) || (((Frame) window).getExtendedState() & Frame.ICONIFIED) == 0;
+        }
+
+        private void runIfDue(long now) {
+            if (now < nextRun || !isVisible()) return;
+            // Schedule from now rather than from the missed slot, so a backlog runs once
+            nextRun = now + periodMillis;
+            task.run();
+        }
+    }
+
+    private RefreshScheduler() {
+    }
+
+    /**
+     * Runs task on the EDT about every periodMillis while window is visible, until the window
+     * is disposed or the registration is cancelled.
+     */
+    public static Registration register(Window window, int periodMillis, Runnable task) {
+        Registration registration = new Registration(window, Math.max(TICK_MILLIS, periodMillis), task);
+        window.addWindowListener(registration.windowListener);
+        registrations.add(registration);
+        if (!timer.isRunning()) timer.start();
+        return registration;
+    }
+
+    private static void tick() {
+        long now = System.currentTimeMillis();
+        // Copy, since a task may dispose its window and cancel while we iterate
+        for (Registration registration : new ArrayList<>(registrations)) {
+            registration.runIfDue(now);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.printshopapp;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Running revenue totals, overall and per staff, kept in step with order changes.
+ * Each order contributes its amount to at most one bucket; a status or assignment change moves
+ * that contribution instead of re-summing every order, so every total is a constant-time read.
+ * Amounts are kept in centavos so repeated moves do not drift.
+ *
+ * Revenue.txt is the persisted, append-only side: one line per revenue transition,
+ * format orderId,staffId,amount,status,timestamp.
+ */
+public class RevenueLedger {
+    private static final Logger LOGGER = Logger.getLogger(RevenueLedger.class.getName());
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private enum Bucket {
+        GENERATED, // Completed
+        POSSIBLE,  // Accepted or On Process
+        OPEN       // any other status that is not completed yet (Pending, Paid, Declined, ...)
+    }
+
+    private static class Contribution {
+        final Bucket bucket;
+        final int staffId;
+        final long cents;
+
+        Contribution(Bucket bucket, int staffId, long cents) {
+            this.bucket = bucket;
+            this.staffId = staffId;
+            this.cents = cents;
+        }
+    }
+
+    private final String filePath;
+    private final Map<String, Contribution> contributions = new HashMap<>(); // orderId -> current contribution
+    private final long[] totals = new long[Bucket.values().length];
+    private final Map<Integer, long[]> staffTotals = new HashMap<>(); // staffId -> totals per bucket
+    private Set<String> recordedOrderIds; // order IDs with at least one line in Revenue.txt; loaded on first use
+
+    public RevenueLedger(String filePath) {
+        this.filePath = filePath;
+    }
+
+    // Recomputes every total from scratch, e.g. after orders were (re)loaded from file
+    public synchronized void rebuild(Collection<Order> orders) {
+        contributions.clear();
+        Arrays.fill(totals, 0);
+        staffTotals.clear();
+        for (Order order : orders) {
+            apply(order);
+        }
+    }
+
+    // Moves the order's contribution to match its current status, assignment and amount
+    public synchronized void apply(Order order) {
+        Contribution previous = contributions.get(order.getId());
+        Contribution current = new Contribution(bucketOf(order.getStatus()), order.getAssignedStaffId(),
+                Math.round(order.getTotalAmount() * 100));
+        if (previous != null) {
+            if (previous.bucket == current.bucket && previous.staffId == current.staffId && previous.cents == current.cents) {
+                return;
+            }
+            add(previous, -1);
+        }
+        add(current, 1);
+        contributions.put(order.getId(), current);
+    }
+
+    public synchronized void remove(String orderId) {
+        Contribution previous = contributions.remove(orderId);
+        if (previous != null) {
+            add(previous, -1);
+        }
+    }
+
+    private void add(Contribution contribution, int sign) {
+        int bucket = contribution.bucket.ordinal();
+        totals[bucket] += sign * contribution.cents;
+        if (contribution.staffId != 0) {
+            long[] staff = staffTotals.computeIfAbsent(contribution.staffId, id -> new long[totals.length]);
+            staff[bucket] += sign * contribution.cents;
+        }
+    }
+
+    private static Bucket bucketOf(String status) {
+        if ("Completed".equalsIgnoreCase(status) || "Complete".equalsIgnoreCase(status)) return Bucket.GENERATED;
+        if ("Accepted".equalsIgnoreCase(status) || "On Process".equalsIgnoreCase(status)) return Bucket.POSSIBLE;
+        return Bucket.OPEN;
+    }
+
+    // Completed orders
+    public synchronized double getGenerated() {
+        return totals[Bucket.GENERATED.ordinal()] / 100.0;
+    }
+
+    // Accepted or On Process orders
+    public synchronized double getPossible() {
+        return totals[Bucket.POSSIBLE.ordinal()] / 100.0;
+    }
+
+    // Every order that is not completed yet
+    public synchronized double getPotential() {
+        return (totals[Bucket.POSSIBLE.ordinal()] + totals[Bucket.OPEN.ordinal()]) / 100.0;
+    }
+
+    public synchronized double getStaffGenerated(int staffId) {
+        long[] staff = staffTotals.get(staffId);
+        return staff == null ? 0.0 : staff[Bucket.GENERATED.ordinal()] / 100.0;
+    }
+
+    public synchronized double getStaffPossible(int staffId) {
+        long[] staff = staffTotals.get(staffId);
+        return staff == null ? 0.0 : staff[Bucket.POSSIBLE.ordinal()] / 100.0;
+    }
+
+    /**
+     * Appends one transition to Revenue.txt. Earlier lines are never rewritten.
+     */
+    public synchronized void append(String orderId, int staffId, double amount, String status) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true))) {
+            String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+            writer.write(orderId + "," + staffId + "," + amount + "," + status + "," + timestamp);
+            writer.newLine();
+            if (recordedOrderIds != null) {
+                recordedOrderIds.add(orderId);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write revenue entry: " + e.getMessage());
+        }
+    }
+
+    // True if Revenue.txt already has a line for this order
+    public synchronized boolean hasEntry(String orderId) {
+        if (recordedOrderIds == null) {
+            recordedOrderIds = readRecordedOrderIds();
+        }
+        return recordedOrderIds.contains(orderId);
+    }
+
+    // One streaming pass over Revenue.txt, keeping only the order ID column
+    private Set<String> readRecordedOrderIds() {
+        Set<String> ids = new HashSet<>();
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) return ids;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comma = line.indexOf(',');
+                // Same rule as before: an entry has at least orderId,staffId,amount,status
+                if (comma > 0 && countCommas(line) >= 3) {
+                    ids.add(line.substring(0, comma));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read revenue entries: " + e.getMessage());
+        }
+        return ids;
+    }
+
+    private static int countCommas(String line) {
+        int count = 0;
+        for (int i = line.indexOf(','); i >= 0 && count < 3; i = line.indexOf(',', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.printshopapp;
+
+import java.util.*;
+
+/**
+ * Strict rotation through the staff in the order they were added, ignoring order size.
+ */
+public class RoundRobinScheduler implements StaffAssignmentScheduler {
+    static final String POLICY_LINE = "policy=round-robin";
+
+    private final Deque<Integer> queue = new ArrayDeque<>();
+
+    @Override
+    public synchronized void addStaff(int staffId) {
+        if (!queue.contains(staffId)) queue.offer(staffId);
+    }
+
+    @Override
+    public synchronized void removeStaff(int staffId) {
+        queue.remove(staffId);
+    }
+
+    @Override
+    public synchronized void clearStaff() {
+        queue.clear();
+    }
+
+    @Override
+    public synchronized boolean hasStaff() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public synchronized int selectStaff(Order order) {
+        if (queue.isEmpty()) return 0;
+        int staffId = queue.poll();
+        queue.offer(staffId); // Put staff at the end of the queue
+        return staffId;
+    }
+
+    @Override
+    public void orderChanged(Order order, boolean removed) {
+        // Rotation does not depend on outstanding work
+    }
+
+    @Override
+    public void rebuild(Collection<Order> orders) {
+    }
+
+    @Override
+    public synchronized List<String> saveState() {
+        List<String> lines = new ArrayList<>();
+        lines.add(POLICY_LINE);
+        for (int staffId : queue) {
+            lines.add("staff," + staffId);
+        }
+        return lines;
+    }
+
+    // Saved staff go first in their saved order; staff added since then keep their place after them
+    @Override
+    public synchronized void restoreState(List<String> lines) {
+        if (lines.isEmpty() || !POLICY_LINE.equals(lines.get(0))) return;
+        Deque<Integer> restored = new ArrayDeque<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split(",");
+            try {
+                int staffId = Integer.parseInt(parts[1].trim());
+                if (queue.remove(staffId)) restored.offer(staffId);
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                // Skip malformed lines
+            }
+        }
+        restored.addAll(queue);
+        queue.clear();
+        queue.addAll(restored);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.printshopapp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Small state file for the staff assignment scheduler.
+ * save() only records the latest state; a daemon thread writes it to a temp file and atomically
+ * moves it into place, so a burst of changes costs one write and a crash never leaves half a file.
+ * A shutdown hook writes whatever is still pending.
+ */
+public class SchedulerStateStore {
+    private static final Logger LOGGER = Logger.getLogger(SchedulerStateStore.class.getName());
+
+    private final Path path;
+    private final AtomicReference<List<String>> pending = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "scheduler-state");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerStateStore(String filePath) {
+        this.path = Paths.get(filePath);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writePending, "scheduler-state-shutdown"));
+    }
+
+    // Returns the saved lines, or an empty list if there is no readable state file
+    public List<String> load() {
+        if (!Files.exists(path)) return Collections.emptyList();
+        try {
+            return Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warning("Error reading scheduler state: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    public void save(List<String> lines) {
+        // Only the first save of a burst schedules a write; later ones just replace the lines
+        if (pending.getAndSet(lines) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    private synchronized void writePending() {
+        List<String> lines = pending.getAndSet(null);
+        if (lines == null) return;
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(tempPath, lines, StandardCharsets.UTF_8);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warning("Error saving scheduler state: " + e.getMessage());
+        }
+    }
+}
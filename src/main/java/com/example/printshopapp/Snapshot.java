@@ -0,0 +1,44 @@
+package com.example.printshopapp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, versioned list published by OrderRepository and UserDirectory.
+ * Each change to which items a store holds publishes a new snapshot with a higher version, so
+ * readers can share one snapshot without copying and compare versions to see if anything changed.
+ * The items themselves are the live, mutable objects.
+ */
+public final class Snapshot<T> {
+    private final long version;
+    private final List<T> items;
+
+    private Snapshot(long version, List<T> items) {
+        this.version = version;
+        this.items = items;
+    }
+
+    public static <T> Snapshot<T> empty() {
+        return new Snapshot<>(0, Collections.emptyList());
+    }
+
+    // Next version holding a copy of items, in iteration order
+    public Snapshot<T> next(Collection<? extends T> items) {
+        return new Snapshot<>(version + 1, Collections.unmodifiableList(new ArrayList<>(items)));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // Read-only; never changes after the snapshot is published
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.printshopapp;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Lightweight startup window showing load progress while SystemManager reads its files.
+ */
+public class SplashWindow extends JWindow {
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+
+    public SplashWindow(int totalSteps) {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(Color.WHITE);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(new Color(0, 120, 212), 2),
+                BorderFactory.createEmptyBorder(20, 20, 20, 20)
+        ));
+
+        JLabel titleLabel = new JLabel("Print Shop", SwingConstants.CENTER);
+        titleLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        titleLabel.setForeground(new Color(0, 120, 212));
+
+        statusLabel = new JLabel("Loading...", SwingConstants.CENTER);
+        statusLabel.setFont(new Font("Arial", Font.PLAIN, 13));
+
+        progressBar = new JProgressBar(0, totalSteps);
+        progressBar.setStringPainted(true);
+
+        panel.add(titleLabel, BorderLayout.NORTH);
+        panel.add(statusLabel, BorderLayout.CENTER);
+        panel.add(progressBar, BorderLayout.SOUTH);
+
+        setContentPane(panel);
+        setSize(360, 140);
+        setLocationRelativeTo(null);
+    }
+
+    // Safe to call from any thread
+    public void setProgress(int stepsDone, String message) {
+        SwingUtilities.invokeLater(() -> {
+            progressBar.setValue(stepsDone);
+            statusLabel.setText(message);
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.printshopapp;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Picks which staff member receives the next accepted order.
+ * SystemManager registers staff with addStaff() and reports every order change through
+ * orderChanged() (or rebuild() after a reload), so implementations can track outstanding work.
+ * Choose the implementation with -Dprintshop.assignment=least-work (default) or round-robin.
+ * Implementations must be thread-safe; staff and orders load on different threads at startup.
+ */
+public interface StaffAssignmentScheduler {
+
+    void addStaff(int staffId);
+
+    void removeStaff(int staffId);
+
+    void clearStaff();
+
+    boolean hasStaff();
+
+    /** Returns the staff ID that should get the order, or 0 if no staff is registered. */
+    int selectStaff(Order order);
+
+    /** Called after an order is added, updated or removed. */
+    void orderChanged(Order order, boolean removed);
+
+    /** Recomputes all tracked state from the full order list. */
+    void rebuild(Collection<Order> orders);
+
+    /**
+     * Rotation position as text lines for SchedulerStateStore; the first line names the policy.
+     * Outstanding load is not saved, since rebuild() recomputes it from the loaded orders.
+     */
+    List<String> saveState();
+
+    /**
+     * Restores what saveState() wrote, for staff already added. Lines from another policy are ignored.
+     */
+    void restoreState(List<String> lines);
+
+    static StaffAssignmentScheduler fromSystemProperty() {
+        String policy = System.getProperty("printshop.assignment", "least-work");
+        if ("round-robin".equalsIgnoreCase(policy)) {
+            return new RoundRobinScheduler();
+        }
+        return new LeastOutstandingWorkScheduler();
+    }
+}
@@ -3,11 +3,9 @@ package com.example.printshopapp;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableCellRenderer;
-import javax.swing.table.TableCellEditor;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -15,7 +13,8 @@ import java.awt.event.ActionListener;
 public class StaffDashboard extends JFrame {
     private final SystemManager systemManager;
     private final User staffUser;
-    private DefaultTableModel tableModel;  // Removed final modifier
+    private OrderTableModel tableModel;  // Removed final modifier
+    private final OrderChangeListener orderChangeListener = this::onOrderChanged;
 
     // Define colors for consistent theme
     private static final Color PRIMARY_COLOR = new Color(52, 152, 219);    // Blue
@@ -39,6 +38,15 @@ public class StaffDashboard extends JFrame {
 
         setupComponents();
         KaelLib.setBackgroundImage(this, "/com/example/printshopapp/images/background1.png");
+
+        // Keep the table in sync with order changes instead of rebuilding it
+        systemManager.addOrderChangeListener(orderChangeListener);
+    }
+
+    @Override
+    public void dispose() {
+        systemManager.removeOrderChangeListener(orderChangeListener);
+        super.dispose();
     }
 
     private void setupComponents() {
@@ -129,26 +137,23 @@ public class StaffDashboard extends JFrame {
                 BorderFactory.createEmptyBorder(10, 10, 10, 10)
         ));
 
-        // Create table with custom model
-        String[] columns = {
-                "Order ID",
-                "Customer Name",
-                "Status",
-                "Pages",
-                "Copies",
-                "Type",
-                "Date",
-                "Total Amount (₱)",
-                "Document"
-        };
-
-        tableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                // Only the Document column (index 8) is editable for the button
-                return column == 8;
-            }
+        // Create table with custom model; cells are read straight from the assigned orders
+        OrderTableModel.Column[] columns = {
+                OrderTableModel.ORDER_ID,
+                OrderTableModel.CUSTOMER_NAME,
+                OrderTableModel.STATUS,
+                OrderTableModel.PAGES,
+                OrderTableModel.COPIES,
+                OrderTableModel.TYPE,
+                OrderTableModel.DATE,
+                OrderTableModel.totalAmount("Total Amount (₱)"),
+                new OrderTableModel.Column("Document", String.class, o ->
+                        (o.getDocumentPath() != null && !o.getDocumentPath().isEmpty()) ? "View" : "No File")
         };
+        // Only the Document column (index 8) is editable for the button
+        tableModel = new OrderTableModel(columns, 8, new Object[]{
+                "-", "No assigned orders", "-", "-", "-", "-", "-", "-", "-"
+        });
 
         JTable ordersTable = new JTable(tableModel) {
             @Override
@@ -171,7 +176,7 @@ public class StaffDashboard extends JFrame {
         // Prevent column reordering and resizing
         ordersTable.getTableHeader().setReorderingAllowed(false);
         ordersTable.getTableHeader().setResizingAllowed(false);
-        ordersTable.setAutoCreateRowSorter(true);
+        ordersTable.setRowSorter(tableModel.createRowSorter());
         ordersTable.setBackground(Color.WHITE);
         ordersTable.setForeground(Color.BLACK);
         ordersTable.setFont(new Font("Arial", Font.PLAIN, 14));
@@ -241,10 +246,9 @@ public class StaffDashboard extends JFrame {
         markCompletedButton.setBorder(BorderFactory.createEmptyBorder(8, 15, 8, 15));
         markCompletedButton.setToolTipText("Set selected order to Completed");
         markCompletedButton.addActionListener(e -> {
-            int row = ordersTable.getSelectedRow();
-            if (row != -1 && tableModel.getValueAt(row, 0) instanceof String) {
-                String orderId = (String) tableModel.getValueAt(row, 0);
-                markOrderAsCompleted(orderId);
+            Order selected = getSelectedOrder(ordersTable);
+            if (selected != null) {
+                markOrderAsCompleted(selected.getId());
             } else {
                 JOptionPane.showMessageDialog(this, "Please select a valid order to mark as completed.", "No Order Selected", JOptionPane.WARNING_MESSAGE);
             }
@@ -258,10 +262,9 @@ public class StaffDashboard extends JFrame {
         markOnProcessButton.setBorder(BorderFactory.createEmptyBorder(8, 15, 8, 15));
         markOnProcessButton.setToolTipText("Set selected order to On Process");
         markOnProcessButton.addActionListener(e -> {
-            int row = ordersTable.getSelectedRow();
-            if (row != -1 && tableModel.getValueAt(row, 0) instanceof String) {
-                String orderId = (String) tableModel.getValueAt(row, 0);
-                markOrderAsOnProcess(orderId);
+            Order selected = getSelectedOrder(ordersTable);
+            if (selected != null) {
+                markOrderAsOnProcess(selected.getId());
             } else {
                 JOptionPane.showMessageDialog(this, "Please select a valid order to mark as on process.", "No Order Selected", JOptionPane.WARNING_MESSAGE);
             }
@@ -280,11 +283,9 @@ public class StaffDashboard extends JFrame {
         completeItem.addActionListener(e -> {
             int row = ordersTable.getSelectedRow();
             if (row != -1) {
-                Object orderIdObj = tableModel.getValueAt(row, 0);
-                Object statusObj = tableModel.getValueAt(row, 2);
-                if (orderIdObj instanceof String && "Accepted".equals(statusObj)) {
-                    String orderId = (String) orderIdObj;
-                    markOrderAsCompleted(orderId);
+                Order selected = getSelectedOrder(ordersTable);
+                if (selected != null && "Accepted".equals(selected.getStatus())) {
+                    markOrderAsCompleted(selected.getId());
                 } else {
                     JOptionPane.showMessageDialog(this, "Only 'Accepted' orders can be marked as completed.", "Not Allowed", JOptionPane.WARNING_MESSAGE);
                 }
@@ -304,30 +305,30 @@ public class StaffDashboard extends JFrame {
     }
 
     private void refreshOrdersTable() {
-        tableModel.setRowCount(0); // Clear existing rows
-        for (Order order : systemManager.getOrders()) {
-            if (order.getAssignedStaffId() == staffUser.getId()) {
-                tableModel.addRow(new Object[]{
-                        order.getId(),
-                        order.getCustomerName(),
-                        order.getStatus(),
-                        order.getPageCount(),
-                        order.getCopies(),
-                        order.isColorPrinting() ? "Color" : "B&W",
-                        order.getDate(),
-                        String.format("₱%.2f", order.getTotalAmount()),
-                        (order.getDocumentPath() != null && !order.getDocumentPath().isEmpty()) ? "View" : "No File"
-                });
-            }
-        }
+        tableModel.setOrders(systemManager.getOrdersByStaffId(staffUser.getId()));
+        // Always update revenue labels after refreshing orders
+        updateRevenueLabels();
+    }
 
-        // Add a "no orders" row if the table is empty
-        if (tableModel.getRowCount() == 0) {
-            tableModel.addRow(new Object[]{
-                    "-", "No assigned orders", "-", "-", "-", "-", "-", "-", "-"
-            });
+    // Selected order in view coordinates, or null if nothing (or the placeholder) is selected
+    private Order getSelectedOrder(JTable ordersTable) {
+        int row = ordersTable.getSelectedRow();
+        return row == -1 ? null : tableModel.getOrderAt(ordersTable.convertRowIndexToModel(row));
+    }
+
+    private void onOrderChanged(OrderChangeEvent event) {
+        if (event.getType() == OrderChangeEvent.Type.RELOADED) {
+            refreshOrdersTable();
+            return;
+        }
+        Order order = event.getOrder();
+        boolean mine = event.getType() != OrderChangeEvent.Type.REMOVED
+                && order.getAssignedStaffId() == staffUser.getId();
+        if (mine) {
+            tableModel.upsert(order);
+        } else if (!tableModel.remove(order.getId())) {
+            return; // not one of ours; nothing to repaint
         }
-        // Always update revenue labels after refreshing orders
         updateRevenueLabels();
     }
 
@@ -349,16 +350,12 @@ public class StaffDashboard extends JFrame {
     }
 
     private void markOrderAsCompleted(String orderId) {
-        systemManager.updateOrderStatusAndRevenue(orderId, "Completed");
-        refreshOrdersTable();
-        updateRevenueLabels();
+        systemManager.updateOrderStatusAndRevenue(orderId, "Completed"); // row and revenue update via orderChanged
         JOptionPane.showMessageDialog(this, "Order marked as completed! Revenue updated.", "Order Completed", JOptionPane.INFORMATION_MESSAGE);
     }
 
     private void markOrderAsOnProcess(String orderId) {
-        systemManager.updateOrderStatusAndRevenue(orderId, "On Process");
-        refreshOrdersTable();
-        updateRevenueLabels();
+        systemManager.updateOrderStatusAndRevenue(orderId, "On Process"); // row and revenue update via orderChanged
         JOptionPane.showMessageDialog(this, "Order marked as On Process!", "Order Updated", JOptionPane.INFORMATION_MESSAGE);
     }
 
@@ -394,42 +391,6 @@ public class StaffDashboard extends JFrame {
         return updated;
     }
 
-    private void loadOrders() {
-        while (tableModel.getRowCount() > 0) {
-            tableModel.removeRow(0);
-        }
-
-        boolean hasOrders = false;
-        for (Order order : systemManager.getOrders()) {
-            if (order.getAssignedStaffId() == staffUser.getId()) {
-                hasOrders = true;
-                tableModel.addRow(new Object[]{
-                        order.getId(),
-                        order.getCustomerName(),
-                        order.getStatus(),
-                        order.getPageCount(),
-                        order.getCopies(),
-                        order.isColorPrinting() ? "Color" : "B&W",
-                        order.getDate(),
-                        String.format("₱%.2f", order.getTotalAmount()),
-                        (order.getDocumentPath() != null && !order.getDocumentPath().isEmpty()) ? "View" : "No File"
-                });
-            }
-        }
-
-        if (!hasOrders) {
-            tableModel.addRow(new Object[]{
-                    "-", "No assigned orders", "-", "-", "-", "-", "-", "-", "-"
-            });
-        }
-    }
-
-    private void refreshOrders() {
-        loadOrders();
-        revalidate();
-        repaint();
-    }
-
     private void logout() {
         int choice = JOptionPane.showConfirmDialog(
                 this,
@@ -548,10 +509,10 @@ class ButtonEditor extends DefaultCellEditor {
     private String label;
     private boolean isPushed;
     private int row;
-    private DefaultTableModel tableModel;
+    private OrderTableModel tableModel;
     private SystemManager systemManager;
     private StaffDashboard staffDashboard;
-    public ButtonEditor(JCheckBox checkBox, DefaultTableModel tableModel, SystemManager systemManager, StaffDashboard staffDashboard) {
+    public ButtonEditor(JCheckBox checkBox, OrderTableModel tableModel, SystemManager systemManager, StaffDashboard staffDashboard) {
         super(checkBox);
         this.tableModel = tableModel;
         this.systemManager = systemManager;
@@ -566,7 +527,7 @@ class ButtonEditor extends DefaultCellEditor {
     }
     public Component getTableCellEditorComponent(JTable table, Object value,
                                                  boolean isSelected, int row, int column) {
-        this.row = row;
+        this.row = table.convertRowIndexToModel(row);
         label = (value == null) ? "" : value.toString();
         // Always enable for 'View' except placeholder
         boolean isView = "View".equals(label);
@@ -578,9 +539,7 @@ class ButtonEditor extends DefaultCellEditor {
     }
     public Object getCellEditorValue() {
         if (isPushed && "View".equals(label)) {
-            int modelRow = row;
-            String orderId = (String) tableModel.getValueAt(modelRow, 0);
-            Order order = systemManager.getOrders().stream().filter(o -> o.getId().equals(orderId)).findFirst().orElse(null);
+            Order order = tableModel.getOrderAt(row);
             if (order != null) {
                 // If there is no document, receipt, or gcash file, show a message
                 boolean hasDoc = order.getDocumentPath() != null && !order.getDocumentPath().trim().isEmpty();
@@ -4,30 +4,76 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class SystemManager {
-    private List<User> users = new ArrayList<>();
-    private List<Order> orders = new ArrayList<>();
-    private Queue<Integer> staffQueue = new LinkedList<>();
+    private final UserDirectory users = new UserDirectory();
+    private final OrderRepository orders = new OrderRepository();
+    private final StaffAssignmentScheduler staffScheduler = StaffAssignmentScheduler.fromSystemProperty();
+    // The rotation position survives restarts; nothing is saved until the saved state has been restored
+    private static final String SCHEDULER_STATE_FILE_PATH = "src/main/resources/com/example/printshopapp/StaffSchedulerState.txt";
+    private final SchedulerStateStore schedulerStateStore = new SchedulerStateStore(SCHEDULER_STATE_FILE_PATH);
+    private volatile boolean schedulerStateRestored = false;
     private static final String CUSTOMER_FILE_PATH = "src/main/resources/com/example/printshopapp/Customer.txt";
     public static final String ORDER_FILE_PATH = "src/main/resources/com/example/printshopapp/Order.txt";
+    public static final String ORDER_JOURNAL_FILE_PATH = "src/main/resources/com/example/printshopapp/OrderJournal.txt";
     public static final String ORDER_NOTIFICATION_FILE_PATH = "src/main/resources/com/example/printshopapp/Ordernotification.txt";
     private static final String ADMIN_FILE_PATH = "src/main/resources/com/example/printshopapp/Admin.txt";
+    public static final String LOGBOOK_FILE_PATH = "src/main/resources/com/example/printshopapp/Logbook.txt";
+    public static final String UPLOADS_DIR = "uploads";
     private static final Logger LOGGER = Logger.getLogger(SystemManager.class.getName());
     private int nextUserId = 1;
     private int nextOrderId = 1;
+    private final OrderIdGenerator orderIdGenerator = new OrderIdGenerator();
+    // Only orders this close in time count as duplicates; 0 (default) compares against all orders.
+    // Set with -Dprintshop.duplicateWindowMinutes.
+    private static final Duration DUPLICATE_ORDER_WINDOW =
+            Duration.ofMinutes(Long.getLong("printshop.duplicateWindowMinutes", 0L));
     private User currentUser = null; // Track the currently logged-in user
 
+    // Journaled persistence: append delta records instead of rewriting Order.txt on every change.
+    // Disable with -Dprintshop.orderJournal=false to fall back to full rewrites.
+    private static final int JOURNAL_COMPACT_THRESHOLD = 500;
+    private final boolean journalEnabled = !"false".equalsIgnoreCase(System.getProperty("printshop.orderJournal"));
+    private final OrderJournal orderJournal = new OrderJournal(ORDER_JOURNAL_FILE_PATH);
+
+    // Audit entries are written by a background thread so callers never wait on disk.
+    // Tune with -Dprintshop.audit.batchSize and -Dprintshop.audit.flushMillis.
+    private final AuditLogger auditLogger = new AuditLogger(LOGBOOK_FILE_PATH,
+            Integer.getInteger("printshop.audit.batchSize", 64), Long.getLong("printshop.audit.flushMillis", 1000L));
+    private final AuditTrailReader auditTrailReader = new AuditTrailReader(LOGBOOK_FILE_PATH);
+    private final NotificationStore notificationStore = new NotificationStore(ORDER_NOTIFICATION_FILE_PATH);
+    // Open customer windows subscribe here for new notifications instead of rereading the file
+    private final NotificationDispatcher notificationDispatcher = new NotificationDispatcher();
+    // Receipts and print files are copied here in the background, deduplicated by content
+    private final UploadService uploadService = new UploadService(UPLOADS_DIR);
+    private final PageCounter pageCounter = new PageCounter();
+    private final ThumbnailService thumbnailService = new ThumbnailService(UPLOADS_DIR + "/thumbnails");
+
+    // Dashboards subscribe here instead of polling Order.txt
+    private final List<OrderChangeListener> orderChangeListeners = new CopyOnWriteArrayList<>();
+
+    // Startup loading; both are already complete when the stores were loaded synchronously
+    public static final int STARTUP_LOAD_STEPS = 6;
+    private volatile CompletableFuture<Void> usersLoaded = CompletableFuture.completedFuture(null);
+    private volatile CompletableFuture<Void> ordersLoaded = CompletableFuture.completedFuture(null);
+
     // Revenue tracking
     private static final String REVENUE_FILE_PATH = "src/main/resources/com/example/printshopapp/Revenue.txt";
-    private Map<Integer, Double> staffRevenue = new HashMap<>(); // staffId -> revenue
+    private final RevenueLedger revenueLedger = new RevenueLedger(REVENUE_FILE_PATH); // running totals + append-only file
 
     // --- Pricing Management ---
     private static final String PRICING_FILE_PATH = "src/main/resources/com/example/printshopapp/PricingConfig.txt";
     private final Map<String, Double> pricing = new HashMap<>();
+    private volatile int pricingVersion; // bumped on every load or change, so price panels can skip rebuilds
 
     private void loadPricingFromFile() {
         pricing.clear();
@@ -58,6 +104,8 @@ public class SystemManager {
             }
         } catch (Exception e) {
             System.err.println("Error loading pricing: " + e.getMessage());
+        } finally {
+            pricingVersion++;
         }
     }
 
@@ -89,14 +137,24 @@ public class SystemManager {
 
     public void setPrice(String key, double value) {
         pricing.put(key, value);
+        pricingVersion++;
         savePricingToFile();
     }
 
+    public int getPricingVersion() {
+        return pricingVersion;
+    }
+
     public Map<String, Double> getAllPrices() {
         return new HashMap<>(pricing);
     }
 
     public SystemManager() {
+        this(true);
+    }
+
+    private SystemManager(boolean loadNow) {
+        if (!loadNow) return;
         loadAdminFromFile();
         loadStaffFromFile();
         loadCustomersFromFile();
@@ -105,14 +163,73 @@ public class SystemManager {
         loadPricingFromFile(); // Load pricing at startup
     }
 
+    /**
+     * Creates a SystemManager whose stores load on background threads.
+     * Users and pricing load in parallel with orders; accepted orders are matched to staff and
+     * revenue once both users and orders are in. progress receives (steps done, step name)
+     * from worker threads; there are STARTUP_LOAD_STEPS steps.
+     */
+    public static SystemManager loadInBackground(BiConsumer<Integer, String> progress) {
+        SystemManager manager = new SystemManager(false);
+        AtomicInteger stepsDone = new AtomicInteger();
+        BiConsumer<Runnable, String> step = (task, name) -> {
+            task.run();
+            progress.accept(stepsDone.incrementAndGet(), name);
+        };
+
+        // Admin, staff and customers share the user list, so they load one after another
+        CompletableFuture<Void> users = CompletableFuture.runAsync(() -> {
+            step.accept(manager::loadAdminFromFile, "Loaded admin");
+            step.accept(manager::loadStaffFromFile, "Loaded staff");
+            step.accept(manager::loadCustomersFromFile, "Loaded customers");
+        });
+        CompletableFuture<Void> pricing = CompletableFuture.runAsync(
+                () -> step.accept(manager::loadPricingFromFile, "Loaded pricing"));
+        CompletableFuture<Void> orders = CompletableFuture.runAsync(
+                () -> step.accept(manager::loadOrdersFromFile, "Loaded orders"));
+
+        manager.usersLoaded = CompletableFuture.allOf(users, pricing);
+        // Assigning accepted orders needs the staff queue as well as the orders
+        manager.ordersLoaded = users.thenCombine(orders, (u, o) -> (Void) null)
+                .thenRun(() -> step.accept(manager::assignStaffAndRevenueForAcceptedOrders, "Assigned orders"));
+        return manager;
+    }
+
+    // Runs the task on the EDT once users and pricing are loaded (or loading failed)
+    public void whenUsersLoaded(Runnable task) {
+        runOnEdtWhenDone(usersLoaded, "users", task);
+    }
+
+    // Runs the task on the EDT once orders are loaded and assigned to staff (or loading failed)
+    public void whenOrdersLoaded(Runnable task) {
+        runOnEdtWhenDone(ordersLoaded, "orders", task);
+    }
+
+    public boolean isOrdersLoaded() {
+        return ordersLoaded.isDone();
+    }
+
+    private void runOnEdtWhenDone(CompletableFuture<Void> loading, String what, Runnable task) {
+        if (loading.isDone() && !loading.isCompletedExceptionally() && SwingUtilities.isEventDispatchThread()) {
+            task.run();
+            return;
+        }
+        loading.whenComplete((result, error) -> {
+            if (error != null) {
+                LOGGER.warning("Failed to load " + what + ": " + error.getMessage());
+            }
+            SwingUtilities.invokeLater(task);
+        });
+    }
+
     /**
      * Returns a list of all orders that are assigned to staff and are in 'Accepted' status.
      * Used for persistent sidebar display in AdminDashboard.
      */
     public List<Order> getAllAcceptedAssignedOrders() {
         List<Order> result = new ArrayList<>();
-        for (Order order : orders) {
-            if ("Accepted".equals(order.getStatus()) && order.getAssignedStaffId() != 0) {
+        for (Order order : orders.findByStatus("Accepted")) {
+            if (order.getAssignedStaffId() != 0) {
                 result.add(order);
             }
         }
@@ -121,35 +238,20 @@ public class SystemManager {
 
     // Assign staff and update revenue for all accepted orders on startup
     private void assignStaffAndRevenueForAcceptedOrders() {
-        for (Order order : orders) {
-            if ("Accepted".equals(order.getStatus())) {
-                if (order.getAssignedStaffId() == 0) {
-                    assignOrderToNextStaff(order);
-                } else {
-                    ensurePendingRevenueEntry(order);
-                }
+        for (Order order : orders.findByStatus("Accepted")) {
+            if (order.getAssignedStaffId() == 0) {
+                assignOrderToNextStaff(order);
+            } else {
+                ensurePendingRevenueEntry(order);
             }
         }
     }
 
     // Ensure Revenue.txt has a pending entry for an accepted order
     private void ensurePendingRevenueEntry(Order order) {
-        try {
-            Path path = Paths.get(REVENUE_FILE_PATH);
-            List<String> lines = Files.exists(path) ? Files.readAllLines(path, StandardCharsets.UTF_8) : new ArrayList<>();
-            boolean found = false;
-            for (String line : lines) {
-                String[] parts = line.split(",");
-                if (parts.length >= 4 && parts[0].equals(order.getId())) {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                writeRevenueEntry(order.getId(), order.getAssignedStaffId(), order.getTotalAmount(), "Pending");
-            }
-        } catch (IOException e) {
-            LOGGER.warning("Failed to ensure pending revenue entry: " + e.getMessage());
+        // The ledger indexes Revenue.txt once, so startup reconciliation stays linear
+        if (!revenueLedger.hasEntry(order.getId())) {
+            writeRevenueEntry(order.getId(), order.getAssignedStaffId(), order.getTotalAmount(), "Pending");
         }
     }
 
@@ -166,22 +268,38 @@ public class SystemManager {
      * Prevents re-approval of already accepted orders.
      */
     public void acceptOrder(String orderId, String adminResponse) {
-        Order order = orders.stream()
-                .filter(o -> o.getId().equals(orderId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        Order order = orders.findById(orderId);
+        if (order == null) {
+            throw new IllegalArgumentException("Order not found: " + orderId);
+        }
         if ("Accepted".equals(order.getStatus())) {
             throw new IllegalStateException("Order is already accepted.");
         }
-        order.setStatus("Accepted");
+        orders.setStatus(order, "Accepted");
         order.setAdminResponse(adminResponse);
         order.setReviewed(true);
+        persistStatusChange(order); // journals and compacts when due, like every other status change
         if (order.getAssignedStaffId() == 0) {
             assignOrderToNextStaff(order);
         } else {
             ensurePendingRevenueEntry(order);
-            saveAllOrdersToFile();
         }
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
+        notifyOrderReviewed(order, true, adminResponse);
+    }
+
+    /**
+     * Admin review from the dashboard: accepted orders go to the next staff in the rotation,
+     * declined ones are only marked. Either way the customer is notified, with the reason if one was given.
+     */
+    public void reviewOrder(String orderId, boolean accepted, String reason) {
+        Order order = orders.findById(orderId);
+        if (order == null) return;
+        setOrderStatus(orderId, accepted ? "Accepted" : "Declined");
+        if (accepted) {
+            assignOrderToNextStaff(order);
+        }
+        notifyOrderReviewed(order, accepted, reason);
     }
 
     private void loadAdminFromFile() {
@@ -197,6 +315,7 @@ public class SystemManager {
                 return;
             }
             List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            List<User> admins = new ArrayList<>();
             for (String line : lines) {
                 if (line.startsWith("//") || line.trim().isEmpty()) continue;
                 String[] parts = line.split(",");
@@ -214,11 +333,12 @@ public class SystemManager {
                             "admin",
                             Boolean.parseBoolean(parts[6].trim())
                     );
-                    users.add(admin);
+                    admins.add(admin);
                 }
             }
+            users.addAll(admins);
             // If no admin found, create default
-            if (users.stream().noneMatch(u -> "admin".equals(u.getRole()))) {
+            if (!users.hasRole("admin")) {
                 User admin = new User(nextUserId++, "Admin", "N/A", "admin@system.com", "0000000000", "admin1", "passwordadmin", "admin", true);
                 users.add(admin);
                 saveAdminToFile(admin);
@@ -251,6 +371,7 @@ public class SystemManager {
     // Modified loadStaffFromFile to properly initialize staff queue
     private void loadStaffFromFile() {
         Path path = Paths.get("src/main/resources/com/example/printshopapp/Staff.txt");
+        List<User> staffUsers = new ArrayList<>();
         try {
             if (!Files.exists(path)) {
                 Files.createDirectories(path.getParent());
@@ -258,8 +379,8 @@ public class SystemManager {
                 return;
             }
 
-            // Clear existing staff queue
-            staffQueue.clear();
+            // Clear existing staff from the scheduler
+            staffScheduler.clearStaff();
 
             List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
             for (String line : lines) {
@@ -280,17 +401,27 @@ public class SystemManager {
                             true
                     );
 
-                    // Add staff to users list if not already present
-                    if (users.stream().noneMatch(u -> u.getId() == id)) {
-                        users.add(staff);
-                    }
+                    // Added to the users list in one batch below, unless already present
+                    staffUsers.add(staff);
 
-                    // Always add to queue for round-robin assignment
-                    staffQueue.offer(id);
+                    // Always register with the assignment scheduler
+                    staffScheduler.addStaff(id);
                 }
             }
         } catch (IOException | NumberFormatException e) {
             System.err.println("Error loading staff: " + e.getMessage());
+        } finally {
+            users.addAll(staffUsers);
+            // Staff are registered now, so the saved rotation can be applied to them
+            staffScheduler.restoreState(schedulerStateStore.load());
+            schedulerStateRestored = true;
+            saveSchedulerState();
+        }
+    }
+
+    private void saveSchedulerState() {
+        if (schedulerStateRestored) {
+            schedulerStateStore.save(staffScheduler.saveState());
         }
     }
 
@@ -306,39 +437,29 @@ public class SystemManager {
             return;
         }
         List<Order> tempOrders = new ArrayList<>();
-        Set<String> seenOrderIds = new HashSet<>();
         int maxOrderId = nextOrderId;
-        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String trimmed = line.trim();
-                if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("OrderID:")) continue;
-                String[] parts = trimmed.split(",");
-                if (parts.length < 14) {
-                    LOGGER.warning("Skipped invalid order line: " + trimmed + " (Expected at least 14 fields, found " + parts.length + ")");
-                    continue;
-                }
-                Order order = Order.fromString(trimmed);
-                if (order != null && !seenOrderIds.contains(order.getId())) {
-                    tempOrders.add(order);
-                    seenOrderIds.add(order.getId());
-                    // Only update maxOrderId if the ID is numeric
-                    try {
-                        int numericId = Integer.parseInt(order.getId());
-                        maxOrderId = Math.max(maxOrderId, numericId + 1);
-                    } catch (NumberFormatException ignored) {
-                        // Ignore non-numeric order IDs
-                    }
-                } else if (order == null) {
-                    LOGGER.warning("Skipped invalid order line: " + trimmed);
+        try {
+            // Parsed in parallel; duplicates keep their first occurrence and comment lines are skipped
+            tempOrders = OrderBulkLoader.load(path).getOrders();
+            for (Order order : tempOrders) {
+                // Only update maxOrderId if the ID is numeric
+                try {
+                    int numericId = Integer.parseInt(order.getId());
+                    maxOrderId = Math.max(maxOrderId, numericId + 1);
+                } catch (NumberFormatException ignored) {
+                    // Ignore non-numeric order IDs
                 }
             }
         } catch (IOException e) {
             LOGGER.warning("Error loading orders from file: " + e.getMessage());
         }
-        orders.clear();
-        orders.addAll(tempOrders);
+        orders.replaceAll(tempOrders);
         nextOrderId = maxOrderId;
+        if (journalEnabled) {
+            orderJournal.replay(orders);
+            compactOrderJournalIfNeeded();
+        }
+        fireOrderChanged(OrderChangeEvent.Type.RELOADED, null);
     }
 
     /**
@@ -348,82 +469,195 @@ public class SystemManager {
         loadOrdersFromFile();
     }
 
+    // Shared read-only list of all users; copy it before modifying
     public List<User> getUsers() {
-        return new ArrayList<>(users); // Return a copy to prevent external modifications
+        return users.snapshot().getItems();
+    }
+
+    public Snapshot<User> getUsersSnapshot() {
+        return users.snapshot();
     }
 
+    public List<User> getUsersByRole(String role) {
+        return users.findByRole(role);
+    }
+
+    // Shared read-only list of all orders; copy it before modifying
     public List<Order> getOrders() {
-        return new ArrayList<>(orders); // Return a copy to prevent external modifications
+        return orders.snapshot().getItems();
+    }
+
+    // Compare getVersion() between calls to skip work when no order was added or removed
+    public Snapshot<Order> getOrdersSnapshot() {
+        return orders.snapshot();
+    }
+
+    public Order getOrderById(String orderId) {
+        return orders.findById(orderId);
     }
 
+    // Unique, time-ordered base62 ID that no loaded order uses
     public String getNextOrderId() {
-        // Generate a random 6-character alphanumeric string
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        StringBuilder sb = new StringBuilder(6);
-        java.util.Random random = new java.util.Random();
-        for (int i = 0; i < 6; i++) {
-            sb.append(chars.charAt(random.nextInt(chars.length())));
-        }
-        return sb.toString();
+        return orderIdGenerator.next(orders::containsId);
     }
 
+    // Adds the order in memory only; orders submitted from the forms are persisted by submitOrderLine
     public void addOrder(Order order) {
-        // Prevent duplicate orders: check for same customerName, status, and other fields
-        boolean duplicate = orders.stream().anyMatch(o ->
-                o.getCustomerName().equals(order.getCustomerName()) &&
-                        o.getStatus().equals(order.getStatus()) &&
-                        o.getTotalAmount() == order.getTotalAmount() &&
-                        o.getPageCount() == order.getPageCount() &&
-                        o.getCopies() == order.getCopies() &&
-                        o.isColorPrinting() == order.isColorPrinting() &&
-                        ((o.getDocumentPath() == null && order.getDocumentPath() == null) || (o.getDocumentPath() != null && o.getDocumentPath().equals(order.getDocumentPath()))) &&
-                        ((o.getReceiptPath() == null && o.getReceiptPath() == null) || (o.getReceiptPath() != null && o.getReceiptPath().equals(order.getReceiptPath()))) &&
-                        ((o.getGcashReceiptPath() == null && o.getGcashReceiptPath() == null) || (o.getGcashReceiptPath() != null && o.getGcashReceiptPath().equals(order.getGcashReceiptPath())))
-        );
+        addOrder(order, false);
+    }
+
+    // Returns false if the order duplicates a stored one or reuses its ID
+    private boolean addOrder(Order order, boolean persist) {
+        // Prevent duplicate orders: same customer, amounts, files and status (fingerprint index lookup)
+        boolean duplicate = orders.findDuplicate(order, DUPLICATE_ORDER_WINDOW) != null;
         if (duplicate) {
             // Optionally log or notify
             System.out.println("Duplicate order detected, not adding.");
-            return;
+            return false;
         }
-        orders.add(order);
+        if (!orders.add(order)) {
+            LOGGER.warning("Order ID already exists, not adding: " + order.getId());
+            return false;
+        }
+        if (persist) {
+            persistAddedOrder(order);
+        }
+        fireOrderChanged(OrderChangeEvent.Type.ADDED, order);
         // Automatically assign the first available staff to the new order
         assignOrderToNextStaff(order);
+        return true;
+    }
+
+    private void persistAddedOrder(Order order) {
+        if (journalEnabled) {
+            orderJournal.appendAdded(order);
+            compactOrderJournalIfNeeded();
+        } else {
+            saveAllOrdersToFile();
+        }
     }
 
     public void updateOrderStatus(String orderId, String status, String adminResponse) {
-        orders.stream()
-                .filter(o -> o.getId().equals(orderId))
-                .findFirst()
-                .ifPresent(order -> {
-                    order.setStatus(status);
-                    order.setAdminResponse(adminResponse);
-                    order.setReviewed(true);
-                });
-        saveAllOrdersToFile();
-    }
-
-    // Save all orders to file (overwrite)
+        Order order = orders.findById(orderId);
+        if (order != null) {
+            orders.setStatus(order, status);
+            order.setAdminResponse(adminResponse);
+            order.setReviewed(true);
+        }
+        persistStatusChange(order);
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
+    }
+
+    // Save all orders to file (overwrite). With journaling on this is the snapshot/compaction step.
     public void saveAllOrdersToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(ORDER_FILE_PATH, false))) {
-            for (Order order : orders) {
+        Path path = Paths.get(ORDER_FILE_PATH);
+        Path tempPath = Paths.get(ORDER_FILE_PATH + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            for (Order order : orders.values()) {
                 writer.write(order.toString());
                 writer.newLine();
             }
         } catch (Exception e) {
             LOGGER.warning("Error saving orders to file: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warning("Error replacing order file: " + e.getMessage());
+            return;
+        }
+        // The snapshot now contains every journaled change
+        if (journalEnabled) {
+            orderJournal.truncate();
+        }
+    }
+
+    // Persist a status/review change: one journal record, or a full rewrite when journaling is off
+    private void persistStatusChange(Order order) {
+        if (!journalEnabled) {
+            saveAllOrdersToFile();
+        } else if (order != null) {
+            orderJournal.appendStatus(order);
+            compactOrderJournalIfNeeded();
+        }
+    }
+
+    private void compactOrderJournalIfNeeded() {
+        if (orderJournal.size() >= JOURNAL_COMPACT_THRESHOLD) {
+            saveAllOrdersToFile();
         }
     }
 
     public List<Order> getOrdersByStatus(String status) {
-        return orders.stream()
-                .filter(o -> o.getStatus().equals(status))
-                .toList();
+        return orders.findByStatus(status);
     }
 
     public List<Order> getOrdersByCustomerId(int customerId) {
-        return orders.stream()
-                .filter(o -> o.getCustomerId() == customerId)
-                .toList();
+        return orders.findByCustomerId(customerId);
+    }
+
+    public List<Order> getOrdersByStaffId(int staffId) {
+        return orders.findByStaffId(staffId);
+    }
+
+    /**
+     * Adds an order record (see generateOrderLine) through addOrder, so it gets the duplicate check
+     * and is journaled like any other new order; open dashboards see it without reloading the file.
+     * Throws IllegalArgumentException for an unreadable record and IllegalStateException for a duplicate.
+     */
+    public void submitOrderLine(String orderLine) {
+        Order order = Order.fromString(orderLine);
+        if (order == null) {
+            throw new IllegalArgumentException("Invalid order record");
+        }
+        if (!addOrder(order, true)) {
+            throw new IllegalStateException("This order has already been submitted.");
+        }
+    }
+
+    // --- Order change events ---
+
+    public void addOrderChangeListener(OrderChangeListener listener) {
+        if (listener != null) orderChangeListeners.add(listener);
+    }
+
+    public void removeOrderChangeListener(OrderChangeListener listener) {
+        orderChangeListeners.remove(listener);
+    }
+
+    // Notify subscribers on the EDT; changes made on a background thread are handed over with invokeLater
+    private void fireOrderChanged(OrderChangeEvent.Type type, Order order) {
+        if (order == null && type != OrderChangeEvent.Type.RELOADED) return;
+        // Every order change passes through here, so the revenue totals and staff loads move with it
+        switch (type) {
+            case ADDED:
+            case UPDATED:
+                revenueLedger.apply(order);
+                staffScheduler.orderChanged(order, false);
+                break;
+            case REMOVED:
+                revenueLedger.remove(order.getId());
+                staffScheduler.orderChanged(order, true);
+                break;
+            case RELOADED:
+                revenueLedger.rebuild(orders.values());
+                staffScheduler.rebuild(orders.snapshot().getItems());
+                break;
+        }
+        if (orderChangeListeners.isEmpty()) return;
+        OrderChangeEvent event = new OrderChangeEvent(type, order);
+        if (SwingUtilities.isEventDispatchThread()) {
+            for (OrderChangeListener listener : orderChangeListeners) {
+                listener.orderChanged(event);
+            }
+        } else {
+            SwingUtilities.invokeLater(() -> {
+                for (OrderChangeListener listener : orderChangeListeners) {
+                    listener.orderChanged(event);
+                }
+            });
+        }
     }
 
     public void registerUser(String name, String studentId, String email, String contactNumber,
@@ -434,7 +668,7 @@ public class SystemManager {
         }
 
         // Check if username already exists
-        if (users.stream().anyMatch(u -> u.getUsername().equals(username))) {
+        if (users.containsUsername(username)) {
             throw new IllegalArgumentException("Username already exists");
         }
 
@@ -445,22 +679,18 @@ public class SystemManager {
     }
 
     public void approveUser(int userId) {
-        User user = users.stream()
-                .filter(u -> u.getId() == userId && !u.isActive())
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("User not found or already active"));
+        User user = users.findById(userId);
+        if (user == null || user.isActive()) {
+            throw new IllegalArgumentException("User not found or already active");
+        }
 
         user.setActive(true);
         updateCustomerInFile(user);
     }
 
     public User validateLogin(String username, String password) {
-        return users.stream()
-                .filter(u -> u.getUsername().equals(username) &&
-                        u.getPassword().equals(password) &&
-                        u.isActive())
-                .findFirst()
-                .orElse(null);
+        User user = users.findByUsername(username);
+        return user != null && user.getPassword().equals(password) && user.isActive() ? user : null;
     }
 
     public User getCurrentUser() {
@@ -477,6 +707,7 @@ public class SystemManager {
 
     private void loadCustomersFromFile() {
         Path path = Paths.get(CUSTOMER_FILE_PATH);
+        List<User> customers = new ArrayList<>();
         try {
             if (!Files.exists(path)) {
                 Files.createDirectories(path.getParent());
@@ -506,12 +737,13 @@ public class SystemManager {
                             "customer",      // role
                             Boolean.parseBoolean(parts[9].trim()) // isActive
                     );
-                    users.add(user);
+                    customers.add(user);
                 }
             }
         } catch (IOException | NumberFormatException e) {
             System.err.println("Error loading customers: " + e.getMessage());
         }
+        users.addAll(customers); // one snapshot for the whole file; lines before an error are kept
     }
 
     private void saveCustomerToFile(User user) {
@@ -579,11 +811,8 @@ public class SystemManager {
      * Updates the given user in the users list and persists the change to the file.
      */
     public void updateUser(User user) {
-        for (int i = 0; i < users.size(); i++) {
-            if (users.get(i).getId() == user.getId()) {
-                users.set(i, user);
-                break;
-            }
+        if (users.containsId(user.getId())) {
+            users.update(user); // also picks up an in-place username change
         }
         saveAllCustomersToFile(); // Always rewrite the file to reflect all changes
     }
@@ -594,13 +823,14 @@ public class SystemManager {
         }
 
         // Check if username already exists
-        if (users.stream().anyMatch(u -> u.getUsername().equals(username))) {
+        if (users.containsUsername(username)) {
             throw new IllegalArgumentException("Username already exists");
         }
 
         User staff = new User(nextUserId++, name, "N/A", email, contactNumber, username, password, "staff", true);
         users.add(staff);
-        staffQueue.add(staff.getId());
+        staffScheduler.addStaff(staff.getId());
+        saveSchedulerState();
 
         // Append staff details to Staff.txt
         try (BufferedWriter writer = new BufferedWriter(new FileWriter("src/main/resources/com/example/printshopapp/Staff.txt", true))) {
@@ -618,7 +848,8 @@ public class SystemManager {
         Order order = new Order(orderId, customerId, customerName, "Pending", 0, totalAmount,
                 pageCount, copies, isColorPrinting, documentPath, receiptPath, gcashReceiptPath);
         orders.add(order);
-        saveAllOrdersToFile();
+        persistAddedOrder(order);
+        fireOrderChanged(OrderChangeEvent.Type.ADDED, order);
     }
 
     private void saveOrderToFile(Order order) {
@@ -635,26 +866,19 @@ public class SystemManager {
         return order.toString();
     }
 
-    private void writeOrderNotification(Order order) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(ORDER_NOTIFICATION_FILE_PATH, true))) {
-            writer.write(order.getCustomerId() + "," + order.getCustomerName() + ",Order Placed: Order ID " + order.getId() + ", Status: " + order.getStatus() + ", Date: " + order.getDate());
-            writer.newLine();
-        } catch (Exception e) {
-            LOGGER.warning("Failed to write order notification: " + e.getMessage());
-        }
-    }
-
     public void updateOrderStatus(String orderId, String status, int staffId) {
-        Order order = orders.stream()
-                .filter(o -> o.getId().equals(orderId) && o.getAssignedStaffId() == staffId)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Order not found or not assigned to this staff"));
+        Order order = orders.findById(orderId);
+        if (order == null || order.getAssignedStaffId() != staffId) {
+            throw new IllegalArgumentException("Order not found or not assigned to this staff");
+        }
 
         if (!isValidStatus(status)) {
             throw new IllegalArgumentException("Invalid status: " + status);
         }
 
-        order.setStatus(status);
+        orders.setStatus(order, status);
+        persistStatusChange(order);
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
     }
 
     private boolean isValidStatus(String status) {
@@ -668,19 +892,19 @@ public class SystemManager {
 
     public void removeUser(int userId) {
         // Remove user from the list
-        users.removeIf(u -> u.getId() == userId);
+        users.remove(userId);
+        staffScheduler.removeStaff(userId); // no-op unless the user was staff
+        saveSchedulerState();
         // Update the customer file to reflect removal
         saveAllCustomersToFile();
     }
 
     private void saveAllCustomersToFile() {
         try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(CUSTOMER_FILE_PATH), StandardCharsets.UTF_8)) {
-            for (User user : users) {
-                // Only save customers (not admin/staff)
-                if ("customer".equals(user.getRole())) {
-                    writer.write(user.toFileString());
-                    writer.newLine();
-                }
+            // Only save customers (not admin/staff)
+            for (User user : users.findByRole("customer")) {
+                writer.write(user.toFileString());
+                writer.newLine();
             }
         } catch (IOException e) {
             LOGGER.severe("Error saving customers to file: " + e.getMessage());
@@ -688,69 +912,117 @@ public class SystemManager {
     }
 
     public void logAction(String userName, String action) {
-        String timestamp = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-        String logEntry = String.format("%s - %s: %s%n", timestamp, userName, action);
+        auditLogger.log(userName, action);
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("src/main/resources/com/example/printshopapp/Logbook.txt", true))) {
-            writer.write(logEntry);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to write to logbook", e);
+    // Writes out queued audit entries; call before reading Logbook.txt back
+    public void flushAuditLog() {
+        if (!auditLogger.flush(2, java.util.concurrent.TimeUnit.SECONDS)) {
+            LOGGER.warning("Timed out flushing the audit log");
         }
     }
 
+    /**
+     * Returns the indexed audit trail, brought up to date with everything logged so far.
+     * Only lines appended since the previous call are scanned. May take a while on first use,
+     * so call it off the EDT.
+     */
+    public AuditTrailReader openAuditTrail() throws IOException {
+        flushAuditLog();
+        auditTrailReader.refresh();
+        return auditTrailReader;
+    }
+
     public boolean isStaffAssigned(int staffId) {
-        return orders.stream().anyMatch(order -> order.getAssignedStaffId() == staffId);
+        return orders.hasOrdersForStaff(staffId);
     }
 
     public void addOrderNotification(int customerId, String customerName, String message) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(ORDER_NOTIFICATION_FILE_PATH, true))) {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            writer.write(String.format("%d,%s,%s - %s%n",
-                    customerId,
-                    customerName,
-                    timestamp,
-                    message));
-        } catch (IOException e) {
-            LOGGER.warning("Failed to write order notification: " + e.getMessage());
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        NotificationStore.Notification notification = notificationStore.append(customerId, customerName, timestamp + " - " + message);
+        if (notification != null) {
+            notificationDispatcher.publish(notification);
         }
     }
 
-    // Assign the next staff in strict round robin order
+    // Tells the order's customer that it was accepted or declined
+    private void notifyOrderReviewed(Order order, boolean accepted, String reason) {
+        String message = "Order " + order.getId() + (accepted ? " has been accepted." : " has been declined.");
+        if (reason != null && !reason.isBlank()) {
+            message += " Reason: " + reason.trim();
+        }
+        addOrderNotification(order.getCustomerId(), order.getCustomerName(), message);
+    }
+
+    /**
+     * Listener is called on the EDT for each new notification addressed to this customer ID or name.
+     */
+    public void addNotificationListener(int customerId, String customerName, NotificationListener listener) {
+        notificationDispatcher.subscribe(customerId, customerName, listener);
+    }
+
+    public void removeNotificationListener(NotificationListener listener) {
+        notificationDispatcher.unsubscribe(listener);
+    }
+
+    // Indexed per-customer view of Ordernotification.txt
+    public NotificationStore getNotificationStore() {
+        return notificationStore;
+    }
+
+    public UploadService getUploadService() {
+        return uploadService;
+    }
+
+    public PageCounter getPageCounter() {
+        return pageCounter;
+    }
+
+    public ThumbnailService getThumbnailService() {
+        return thumbnailService;
+    }
+
+    // Assign the staff member chosen by the assignment scheduler (least outstanding work by default)
     public void assignOrderToNextStaff(Order order) {
         // Only assign staff to Accepted orders that don't already have staff
         if (order == null || !"Accepted".equals(order.getStatus())) return;
         if (order.getAssignedStaffId() != 0) return;
 
         // Check if we have available staff
-        if (staffQueue.isEmpty()) {
+        int selectedStaffId = staffScheduler.selectStaff(order);
+        if (selectedStaffId == 0) {
             LOGGER.warning("No staff available for assignment");
             return;
         }
-
-        // Strict round robin: poll next staff, assign, then add back to queue
-        int selectedStaffId = staffQueue.poll();
-        order.setAssignedStaffId(selectedStaffId);
-        staffQueue.offer(selectedStaffId); // Put staff at the end of the queue
+        // The scheduler picks up the new load through fireOrderChanged below
+        orders.setAssignedStaffId(order, selectedStaffId);
+        saveSchedulerState(); // the rotation moved
 
         // Create pending revenue entry for the new assignment
         writeRevenueEntry(order.getId(), selectedStaffId, order.getTotalAmount(), "Pending");
 
-        // Save the assignment to the Orders.txt file
-        saveAllOrdersToFile();
+        // Save the assignment to the Orders.txt file (or journal)
+        if (journalEnabled) {
+            orderJournal.appendAssignment(order);
+            compactOrderJournalIfNeeded();
+        } else {
+            saveAllOrdersToFile();
+        }
 
         // Log the assignment
         logAction("System", "Assigned order " + order.getId() + " to staff " + selectedStaffId);
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
     }
 
     // Call this when staff completes an order
     public void completeOrder(String orderId, int staffId) {
-        Order order = orders.stream().filter(o -> o.getId().equals(orderId) && o.getAssignedStaffId() == staffId).findFirst().orElse(null);
-        if (order != null && !"Completed".equals(order.getStatus())) {
-            order.setStatus("Completed");
-            // Update staff revenue in memory
-            staffRevenue.put(staffId, staffRevenue.getOrDefault(staffId, 0.0) + order.getTotalAmount());
-            // Update Revenue.txt entry to Completed
+        Order order = orders.findById(orderId);
+        if (order != null && order.getAssignedStaffId() == staffId && !"Completed".equals(order.getStatus())) {
+            orders.setStatus(order, "Completed");
+            // Update Revenue.txt entry to Completed (in-memory totals follow via fireOrderChanged)
             updateRevenueStatus(orderId, staffId, "Completed");
+            persistStatusChange(order);
+            fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
         }
     }
 
@@ -758,95 +1030,41 @@ public class SystemManager {
     // Revenue.txt format: orderId,staffId,amount,status,timestamp
     // status: Pending (possible), Completed (generated), Refunded, Cancelled, etc.
     private void writeRevenueEntry(String orderId, int staffId, double amount, String status) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(REVENUE_FILE_PATH, true))) {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            writer.write(orderId + "," + staffId + "," + amount + "," + status + "," + timestamp);
-            writer.newLine();
-        } catch (IOException e) {
-            LOGGER.warning("Failed to write revenue entry: " + e.getMessage());
-        }
+        revenueLedger.append(orderId, staffId, amount, status);
     }
 
     private void updateRevenueStatus(String orderId, int staffId, String newStatus) {
-        try {
-            Path path = Paths.get(REVENUE_FILE_PATH);
-            List<String> lines = Files.exists(path) ? Files.readAllLines(path, StandardCharsets.UTF_8) : new ArrayList<>();
-            double amount = 0.0;
-            for (String line : lines) {
-                String[] parts = line.split(",");
-                if (parts.length >= 4 && parts[0].equals(orderId) && Integer.parseInt(parts[1]) == staffId) {
-                    amount = Double.parseDouble(parts[2]);
-                }
-            }
-            writeRevenueEntry(orderId, staffId, amount, newStatus);
-        } catch (IOException e) {
-            LOGGER.warning("Failed to update revenue status: " + e.getMessage());
-        }
+        Order order = orders.findById(orderId);
+        writeRevenueEntry(orderId, staffId, order != null ? order.getTotalAmount() : 0.0, newStatus);
     }
 
     // Returns the total generated revenue (orders marked as Completed)
     public double getGeneratedRevenue() {
-        double total = 0.0;
-        for (Order order : orders) {
-            if ("Completed".equalsIgnoreCase(order.getStatus())) {
-                total += order.getTotalAmount();
-            }
-        }
-        return total;
+        return revenueLedger.getGenerated();
     }
 
     // Returns the total possible revenue (orders marked as Accepted or On Process)
     public double getPossibleRevenue() {
-        double total = 0.0;
-        for (Order order : orders) {
-            String status = order.getStatus();
-            if ("Accepted".equalsIgnoreCase(status) || "On Process".equalsIgnoreCase(status)) {
-                total += order.getTotalAmount();
-            }
-        }
-        return total;
+        return revenueLedger.getPossible();
     }
 
     // Returns the total generated revenue for a specific staff member (status: Completed)
     public double getStaffRevenue(int staffId) {
-        double total = 0.0;
-        try {
-            Path path = Paths.get(REVENUE_FILE_PATH);
-            if (!Files.exists(path)) return 0.0;
-            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
-            for (String line : lines) {
-                String[] parts = line.split(",");
-                if (parts.length >= 4 && Integer.parseInt(parts[1]) == staffId && "Completed".equals(parts[3])) {
-                    total += Double.parseDouble(parts[2]);
-                }
-            }
-        } catch (IOException e) {
-            LOGGER.warning("Failed to read staff revenue: " + e.getMessage());
-        }
-        return total;
+        return revenueLedger.getStaffGenerated(staffId);
     }
 
     public double getStaffPossibleRevenue(int staffId) {
-        double total = 0.0;
-        for (Order order : orders) {
-            if (order.getAssignedStaffId() == staffId &&
-                    ("Accepted".equals(order.getStatus()) || "On Process".equals(order.getStatus()))) {
-                total += order.getTotalAmount();
-            }
-        }
-        return total;
+        return revenueLedger.getStaffPossible(staffId);
     }
 
     // Set the status of an order by orderId
     public void setOrderStatus(String orderId, String status) {
-        for (Order order : orders) {
-            if (order.getId().equals(orderId)) {
-                order.setStatus(status);
-                break;
-            }
+        Order order = orders.findById(orderId);
+        if (order != null) {
+            orders.setStatus(order, status);
         }
-        // Optionally, persist the change to file if needed
-        saveAllOrdersToFile();
+        persistStatusChange(order);
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
     }
 
     public String generateOrderLine(String name, String email, String phone, String orderReceipt, String gcashReceipt, String[] printFiles, double totalCost, int pageCount, int copies, boolean isColorPrinting) {
@@ -854,100 +1072,28 @@ public class SystemManager {
         for (String file : printFiles) {
             printFilesList.append(file).append(";");
         }
-        // Generate a 6-character alphanumeric order ID
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        StringBuilder idBuilder = new StringBuilder(6);
-        java.util.Random random = new java.util.Random();
-        for (int i = 0; i < 6; i++) {
-            idBuilder.append(chars.charAt(random.nextInt(chars.length())));
-        }
-        String id = idBuilder.toString();
-        String customerId = "0";
-        String status = "Pending";
-        String assignedStaffId = "";
-        String date = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        String adminResponse = "";
-        String isReviewed = "false";
-        return String.join(",",
-                id,
-                customerId,
-                name,
-                status,
-                assignedStaffId,
-                String.valueOf(totalCost),
-                String.valueOf(pageCount),
-                String.valueOf(copies),
-                String.valueOf(isColorPrinting),
-                printFilesList.toString(),
-                orderReceipt,
-                gcashReceipt,
-                adminResponse,
-                isReviewed,
-                date
-        );
+        Order order = new Order(getNextOrderId(), 0, name, "Pending", 0, totalCost, pageCount, copies,
+                isColorPrinting, printFilesList.toString(), orderReceipt, gcashReceipt);
+        // Same record format as every other Order.txt line, so it reads back with Order.fromString
+        return OrderCodec.encode(order);
     }
 
     // Call this after any order status change
     public void updateOrderStatusAndRevenue(String orderId, String newStatus) {
-        orders.stream()
-                .filter(o -> o.getId().equals(orderId))
-                .findFirst()
-                .ifPresent(order -> {
-                    order.setStatus(newStatus);
-                });
-        saveAllOrdersToFile();
-        updateRevenueFile();
-    }
-
-    // Recalculate and write both potential and generated revenue to Revenue.txt
-    public void updateRevenueFile() {
-        double potentialRevenue = 0.0;
-        double generatedRevenue = 0.0;
-        List<String> orderLines = new ArrayList<>();
-        for (Order order : orders) {
-            String revenueType;
-            if ("Completed".equalsIgnoreCase(order.getStatus()) || "Complete".equalsIgnoreCase(order.getStatus())) {
-                generatedRevenue += order.getTotalAmount();
-                revenueType = "generated";
-            } else {
-                potentialRevenue += order.getTotalAmount();
-                revenueType = "potential";
-            }
-            // Use getAssignedStaffId() and getDate() for staff and timestamp
-            String staffId = String.valueOf(order.getAssignedStaffId());
-            String timestamp = "";
-            try {
-                timestamp = order.getDate();
-            } catch (Exception e) {
-                // fallback if getDate() does not exist
-                timestamp = "";
-            }
-            orderLines.add(order.getId() + "," + staffId + "," + order.getTotalAmount() + "," + order.getStatus() + "," + timestamp + "," + revenueType);
+        Order order = orders.findById(orderId);
+        if (order != null) {
+            orders.setStatus(order, newStatus);
         }
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(REVENUE_FILE_PATH, false))) {
-            writer.write("Potential Revenue," + potentialRevenue);
-            writer.newLine();
-            writer.write("Generated Revenue," + generatedRevenue);
-            writer.newLine();
-            writer.write("orderId,staffId,amount,status,timestamp,revenueType");
-            writer.newLine();
-            for (String line : orderLines) {
-                writer.write(line);
-                writer.newLine();
-            }
-        } catch (Exception e) {
-            LOGGER.warning("Error saving revenue to file: " + e.getMessage());
+        persistStatusChange(order);
+        // Record the transition in Revenue.txt instead of rewriting the whole file
+        if (order != null && order.getAssignedStaffId() != 0) {
+            updateRevenueStatus(orderId, order.getAssignedStaffId(), newStatus);
         }
+        fireOrderChanged(OrderChangeEvent.Type.UPDATED, order);
     }
 
     // Helper to get revenue values for dashboard
     public double getPotentialRevenue() {
-        double total = 0.0;
-        for (Order order : orders) {
-            if (!"Completed".equalsIgnoreCase(order.getStatus()) && !"Complete".equalsIgnoreCase(order.getStatus())) {
-                total += order.getTotalAmount();
-            }
-        }
-        return total;
+        return revenueLedger.getPotential();
     }
 }
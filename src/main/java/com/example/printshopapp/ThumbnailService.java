@@ -0,0 +1,162 @@
+package com.example.printshopapp;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.SwingUtilities;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Scaled previews of receipt and print images, decoded off the EDT.
+ * Images are decoded with ImageReadParam source subsampling, so a large photo is never fully
+ * expanded in memory, then scaled to fit the requested box. Results are kept in a small LRU in
+ * memory and as PNGs on disk, keyed by path, modification time and box size, so a changed file
+ * gets a fresh thumbnail and an unchanged one is decoded only once.
+ */
+public class ThumbnailService {
+    private static final Logger LOGGER = Logger.getLogger(ThumbnailService.class.getName());
+    private static final int MAX_CACHED = 64;
+
+    private final Path cacheDir;
+    private final ExecutorService executor;
+    private final Map<String, BufferedImage> memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    public ThumbnailService(String cacheDir) {
+        this.cacheDir = Paths.get(cacheDir);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "thumbnail-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads a thumbnail that fits in maxWidth x maxHeight. If the image carries an embedded
+     * thumbnail, preview receives it (scaled up) first, on the EDT, while the full decode runs.
+     * The returned future completes with the final image, or exceptionally if the file cannot be decoded.
+     */
+    public CompletableFuture<BufferedImage> load(File file, int maxWidth, int maxHeight, Consumer<BufferedImage> preview) {
+        String key = file.getAbsolutePath() + "|" + file.lastModified() + "|" + maxWidth + "x" + maxHeight;
+        BufferedImage cached;
+        synchronized (memoryCache) {
+            cached = memoryCache.get(key);
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Path diskFile = cacheDir.resolve(hash(key) + ".png");
+                BufferedImage image = readDiskCache(diskFile);
+                if (image == null) {
+                    image = decode(file, maxWidth, maxHeight, preview);
+                    writeDiskCache(diskFile, image);
+                }
+                synchronized (memoryCache) {
+                    memoryCache.put(key, image);
+                }
+                return image;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private BufferedImage decode(File file, int maxWidth, int maxHeight, Consumer<BufferedImage> preview) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            if (input == null) throw new IOException("Cannot read " + file.getName());
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) throw new IOException("Unsupported image: " + file.getName());
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                if (preview != null && reader.hasThumbnails(0)) {
+                    BufferedImage embedded = fit(reader.readThumbnail(0, 0), maxWidth, maxHeight);
+                    SwingUtilities.invokeLater(() -> preview.accept(embedded));
+                }
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // Largest whole-number step that still leaves at least the target size
+                int step = Math.max(1, Math.min(width / maxWidth, height / maxHeight));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return fit(reader.read(0, param), maxWidth, maxHeight);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Scales to fit the box, keeping the aspect ratio
+    private static BufferedImage fit(BufferedImage source, int maxWidth, int maxHeight) {
+        double scale = Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, width, height, java.awt.Color.WHITE, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private BufferedImage readDiskCache(Path diskFile) {
+        if (!Files.exists(diskFile)) return null;
+        try {
+            return ImageIO.read(diskFile.toFile());
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read cached thumbnail: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeDiskCache(Path diskFile, BufferedImage image) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, "thumb", ".tmp");
+            ImageIO.write(image, "png", temp.toFile());
+            Files.move(temp, diskFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to cache thumbnail: " + e.getMessage());
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
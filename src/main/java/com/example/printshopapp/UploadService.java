@@ -0,0 +1,217 @@
+package com.example.printshopapp;
+
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingUtilities;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Copies uploaded files into a content-addressed store under uploads/store, off the EDT.
+ * Each file is read once in chunks: a chunk is memory-mapped and fed to SHA-256, then the same
+ * region is copied with FileChannel.transferTo into a temp file. The finished file is named after
+ * its hash, so uploading the same content again keeps the existing copy and drops the temp file.
+ * Cancelling the returned future stops the copy at the next chunk and deletes the partial file.
+ */
+public class UploadService {
+    private static final Logger LOGGER = Logger.getLogger(UploadService.class.getName());
+    private static final long CHUNK_SIZE = 8L * 1024 * 1024;
+
+    /** Receives copy progress for a whole upload batch. Always called on the Swing event dispatch thread. */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void progress(long bytesDone, long bytesTotal);
+    }
+
+    private final Path storeDir;
+    private final Path tempDir;
+    private final ExecutorService executor;
+
+    public UploadService(String uploadsDir) {
+        this.storeDir = Paths.get(uploadsDir, "store");
+        this.tempDir = Paths.get(uploadsDir, "tmp");
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stores the files in order and completes with their stored absolute paths (same order).
+     * Null entries map to "". Progress covers the combined size of all files.
+     */
+    public CompletableFuture<List<String>> ingest(List<File> files, ProgressListener listener) {
+        CompletableFuture<List<String>> upload = new CompletableFuture<>();
+        start(upload, files, listener);
+        return upload;
+    }
+
+    /**
+     * Same as ingest(files, listener), showing progress in the monitor. Pressing its Cancel button
+     * cancels the returned future, which then completes with a CancellationException.
+     * Call on the EDT.
+     */
+    public CompletableFuture<List<String>> ingestWithProgress(List<File> files, ProgressMonitor monitor) {
+        CompletableFuture<List<String>> upload = new CompletableFuture<>();
+        start(upload, files, (done, total) -> {
+            if (monitor.isCanceled()) {
+                upload.cancel(false);
+            } else {
+                monitor.setProgress(total == 0 ? monitor.getMaximum() : (int) (done * monitor.getMaximum() / total));
+            }
+        });
+        return upload;
+    }
+
+    private void start(CompletableFuture<List<String>> upload, List<File> files, ProgressListener listener) {
+        executor.execute(() -> {
+            try {
+                upload.complete(storeAll(files, listener, upload::isCancelled));
+            } catch (CancellationException e) {
+                upload.cancel(false);
+            } catch (RuntimeException e) {
+                upload.completeExceptionally(new CompletionException(e));
+            }
+        });
+    }
+
+    private List<String> storeAll(List<File> files, ProgressListener listener, BooleanSupplier cancelled) {
+        long total = 0;
+        for (File file : files) {
+            if (file != null) total += file.length();
+        }
+        long[] done = {0};
+        List<String> stored = new ArrayList<>(files.size());
+        for (File file : files) {
+            if (file == null) {
+                stored.add("");
+                continue;
+            }
+            long before = done[0];
+            long batchTotal = total;
+            try {
+                Path path = store(file.toPath(), copied -> {
+                    done[0] = before + copied;
+                    report(listener, done[0], batchTotal);
+                }, cancelled);
+                stored.add(path.toAbsolutePath().toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to upload " + file.getName() + ": " + e.getMessage(), e);
+            }
+        }
+        report(listener, total, total);
+        return stored;
+    }
+
+    private static void report(ProgressListener listener, long done, long total) {
+        if (listener != null) {
+            SwingUtilities.invokeLater(() -> listener.progress(done, total));
+        }
+    }
+
+    // Copies and hashes the file in one pass, then moves it to its content address
+    private Path store(Path source, LongConsumer copied, BooleanSupplier cancelled) throws IOException {
+        Files.createDirectories(storeDir);
+        Files.createDirectories(tempDir);
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tempDir, "upload", ".part");
+        try {
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    if (cancelled.getAsBoolean()) throw new CancellationException(); // temp file is deleted below
+                    long length = Math.min(CHUNK_SIZE, size - position);
+                    MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    digest.update(chunk);
+                    long transferred = 0;
+                    while (transferred < length) {
+                        long n = in.transferTo(position + transferred, length - transferred, out);
+                        if (n <= 0) throw new IOException("File shrank while uploading");
+                        transferred += n;
+                    }
+                    position += length;
+                    copied.accept(position);
+                }
+                out.force(false);
+            }
+            Path target = storeDir.resolve(toHex(digest.digest()) + extensionOf(source));
+            if (Files.exists(target)) {
+                return target; // same content already stored
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // another upload of the same content finished first
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return target;
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                LOGGER.warning("Failed to delete temp upload: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * SHA-256 of the file's content as lowercase hex, read through memory-mapped chunks.
+     * The same value names the file in the store, so other caches can key on it too.
+     */
+    public static String contentHash(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            for (long position = 0; position < size; position += CHUNK_SIZE) {
+                digest.update(in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position)));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    // Keeps the original extension so stored files still open with the right program
+    private static String extensionOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot <= 0 || dot == name.length() - 1) return "";
+        String extension = name.substring(dot).toLowerCase();
+        return extension.matches("\\.[a-z0-9]{1,8}") ? extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.printshopapp;
+
+import java.util.*;
+
+/**
+ * In-memory user store with hash indexes by ID, username and role.
+ * Users are mutable, so the indexed username and role of each user are remembered and
+ * reindex() must be called after a user's username or role changes.
+ * Adding, replacing or removing users publishes a new immutable snapshot of the whole list;
+ * addAll() publishes once for the whole batch, so loading a file is not quadratic.
+ */
+public class UserDirectory {
+    private final Map<Integer, User> byId = new LinkedHashMap<>(); // keeps file/insertion order
+    private final Map<String, User> byUsername = new HashMap<>();
+    private final Map<String, Set<User>> byRole = new HashMap<>();
+    // Keys each user is currently filed under, so in-place edits can be unindexed correctly
+    private final Map<Integer, String> indexedUsername = new HashMap<>();
+    private final Map<Integer, String> indexedRole = new HashMap<>();
+    private volatile Snapshot<User> snapshot = Snapshot.empty();
+
+    /**
+     * Adds a user and indexes it. Returns false if a user with the same ID is already stored.
+     * If two users share a username, lookups by username find the first one added.
+     */
+    public boolean add(User user) {
+        if (user == null || byId.containsKey(user.getId())) return false;
+        byId.put(user.getId(), user);
+        index(user);
+        publish();
+        return true;
+    }
+
+    // Adds users as add() does but publishes one snapshot; returns the number added
+    public int addAll(Collection<User> users) {
+        int added = 0;
+        for (User user : users) {
+            if (user == null || byId.containsKey(user.getId())) continue;
+            byId.put(user.getId(), user);
+            index(user);
+            added++;
+        }
+        if (added > 0) publish();
+        return added;
+    }
+
+    public User remove(int userId) {
+        User user = byId.remove(userId);
+        if (user != null) {
+            unindex(userId, user);
+            publish();
+        }
+        return user;
+    }
+
+    // Replaces the stored user with the same ID (or adds it) and refreshes its index entries
+    public void update(User user) {
+        User previous = byId.put(user.getId(), user);
+        if (previous != null) {
+            unindex(user.getId(), previous);
+        }
+        index(user);
+        if (previous != user) publish();
+    }
+
+    // Call after changing a stored user's username or role in place
+    public void reindex(User user) {
+        if (byId.get(user.getId()) != user) return;
+        unindex(user.getId(), user);
+        index(user);
+    }
+
+    public User findById(int userId) {
+        return byId.get(userId);
+    }
+
+    public boolean containsId(int userId) {
+        return byId.containsKey(userId);
+    }
+
+    public User findByUsername(String username) {
+        return username == null ? null : byUsername.get(username);
+    }
+
+    public boolean containsUsername(String username) {
+        return username != null && byUsername.containsKey(username);
+    }
+
+    public List<User> findByRole(String role) {
+        Set<User> bucket = byRole.get(role);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    public boolean hasRole(String role) {
+        Set<User> bucket = byRole.get(role);
+        return bucket != null && !bucket.isEmpty();
+    }
+
+    // Current snapshot of all users in insertion order; shared, so no copy is made
+    public Snapshot<User> snapshot() {
+        return snapshot;
+    }
+
+    public Collection<User> values() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void publish() {
+        snapshot = snapshot.next(byId.values());
+    }
+
+    private void index(User user) {
+        String username = user.getUsername();
+        if (username != null) {
+            byUsername.putIfAbsent(username, user);
+        }
+        indexedUsername.put(user.getId(), username);
+        indexedRole.put(user.getId(), user.getRole());
+        byRole.computeIfAbsent(user.getRole(), k -> new LinkedHashSet<>()).add(user);
+    }
+
+    private void unindex(int userId, User user) {
+        String username = indexedUsername.remove(userId);
+        if (username != null && byUsername.get(username) == user) {
+            byUsername.remove(username);
+        }
+        String role = indexedRole.remove(userId);
+        Set<User> bucket = byRole.get(role);
+        if (bucket != null) {
+            bucket.remove(user);
+            if (bucket.isEmpty()) byRole.remove(role);
+        }
+    }
+}
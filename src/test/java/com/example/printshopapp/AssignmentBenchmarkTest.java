@@ -0,0 +1,121 @@
+package com.example.printshopapp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Simulates a day of accepted orders and compares how long orders wait in staff queues under
+ * round robin and least-outstanding-work assignment. Both policies see the same seeded order stream.
+ * Runs as a test with mvn test; main() reruns it with other sizes:
+ * java com.example.printshopapp.AssignmentBenchmarkTest [orders] [staff] [seed]
+ */
+class AssignmentBenchmarkTest {
+    private static final double WORK_PER_MINUTE = 20; // pages per minute one staff member gets through
+
+    public static void main(String[] args) {
+        int orderCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int staffCount = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        compare(orderCount, staffCount, seed);
+    }
+
+    @Test
+    void leastWorkWaitsLessThanRoundRobin() {
+        for (long seed : new long[]{42, 7}) {
+            double[][] waits = compare(2000, 4, seed);
+            assertTrue(mean(waits[1]) < mean(waits[0]), "least-work mean wait should beat round robin");
+            assertTrue(percentile(waits[1], 0.95) < percentile(waits[0], 0.95), "least-work p95 wait should beat round robin");
+        }
+    }
+
+    // Returns {round-robin waits, least-work waits} for the same order stream
+    private static double[][] compare(int orderCount, int staffCount, long seed) {
+        List<double[]> stream = generateOrders(orderCount, staffCount, new Random(seed));
+        System.out.printf("%d orders, %d staff, seed %d%n", orderCount, staffCount, seed);
+        double[] roundRobin = simulate(new RoundRobinScheduler(), stream, staffCount);
+        double[] leastWork = simulate(new LeastOutstandingWorkScheduler(), stream, staffCount);
+        report("round-robin", roundRobin);
+        report("least-work", leastWork);
+        return new double[][]{roundRobin, leastWork};
+    }
+
+    // Each entry is {arrival minute, pages, copies, colour 0/1}
+    private static List<double[]> generateOrders(int count, int staffCount, Random random) {
+        List<double[]> stream = new ArrayList<>(count);
+        double time = 0;
+        double meanWork = 0;
+        List<double[]> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double[] shape;
+            double pick = random.nextDouble();
+            if (pick < 0.70) {
+                shape = new double[]{1 + random.nextInt(5), 1, 0};                           // short B&W print
+            } else if (pick < 0.95) {
+                shape = new double[]{5 + random.nextInt(30), 1 + random.nextInt(3), random.nextInt(2)};
+            } else {
+                shape = new double[]{150 + random.nextInt(200), 1 + random.nextInt(2), 1};   // colour thesis
+            }
+            shapes.add(shape);
+            meanWork += shape[0] * shape[1] * (shape[2] == 1 ? LeastOutstandingWorkScheduler.COLOR_FACTOR : 1);
+        }
+        meanWork /= count;
+        // Arrivals keep the shop about 85% busy
+        double meanGap = meanWork / (WORK_PER_MINUTE * staffCount * 0.85);
+        for (double[] shape : shapes) {
+            time += -Math.log(1 - random.nextDouble()) * meanGap;
+            stream.add(new double[]{time, shape[0], shape[1], shape[2]});
+        }
+        return stream;
+    }
+
+    private static double[] simulate(StaffAssignmentScheduler scheduler, List<double[]> stream, int staffCount) {
+        for (int staffId = 1; staffId <= staffCount; staffId++) {
+            scheduler.addStaff(staffId);
+        }
+        double[] freeAt = new double[staffCount + 1];
+        PriorityQueue<Object[]> running = new PriorityQueue<>(Comparator.comparingDouble(e -> (Double) e[0]));
+        double[] waits = new double[stream.size()];
+        for (int i = 0; i < stream.size(); i++) {
+            double[] entry = stream.get(i);
+            double now = entry[0];
+            // Finish everything done by now, so the scheduler sees completions in time order
+            while (!running.isEmpty() && (Double) running.peek()[0] <= now) {
+                Order done = (Order) running.poll()[1];
+                done.setStatus("Completed");
+                scheduler.orderChanged(done, false);
+            }
+            Order order = new Order(String.valueOf(i), 0, "bench", "Accepted", 0, 0,
+                    (int) entry[1], (int) entry[2], entry[3] == 1, "", "", "");
+            int staffId = scheduler.selectStaff(order);
+            order.setAssignedStaffId(staffId);
+            scheduler.orderChanged(order, false);
+
+            double start = Math.max(now, freeAt[staffId]);
+            freeAt[staffId] = start + LeastOutstandingWorkScheduler.workOf(order) / WORK_PER_MINUTE;
+            waits[i] = start - now;
+            running.add(new Object[]{freeAt[staffId], order});
+        }
+        return waits;
+    }
+
+    private static void report(String name, double[] waits) {
+        System.out.printf("%-12s mean %7.1f min   p50 %7.1f   p95 %7.1f   max %7.1f%n", name,
+                mean(waits), percentile(waits, 0.5), percentile(waits, 0.95), percentile(waits, 1.0));
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return sum / values.length;
+    }
+
+    private static double percentile(double[] values, double fraction) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+}